@@ -0,0 +1,70 @@
+package com.cabos.komfortchain.login.benchmark;
+
+import com.cabos.komfortchain.login.benchmark.support.Fixtures;
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final Set<Role> ROLES = Set.of(Role.USER, Role.ADMIN);
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = Fixtures.tokenProvider();
+        token = tokenProvider.generateToken("3f1c2d4e-5a6b-7c8d-9e0f-112233445566", ROLES);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("3f1c2d4e-5a6b-7c8d-9e0f-112233445566", ROLES);
+    }
+
+    @Benchmark
+    public IssuedToken issueToken() {
+        return tokenProvider.issueToken("3f1c2d4e-5a6b-7c8d-9e0f-112233445566", ROLES);
+    }
+
+    @Benchmark
+    public TokenClaims parseToken() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return tokenProvider.getSubject(token);
+    }
+
+    @Benchmark
+    public long getExpiration() {
+        return tokenProvider.getExpiration(token);
+    }
+}
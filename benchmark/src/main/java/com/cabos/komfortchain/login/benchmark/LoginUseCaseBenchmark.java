@@ -0,0 +1,94 @@
+package com.cabos.komfortchain.login.benchmark;
+
+import com.cabos.komfortchain.login.benchmark.support.Fixtures;
+import com.cabos.komfortchain.login.benchmark.support.InMemoryUserRepository;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserService;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserService;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.ValidateTokenService;
+import com.cabos.komfortchain.login.domain.usecase.ValidateTokenUseCase;
+import com.cabos.komfortchain.login.shared.configuration.LockoutProperties;
+import com.cabos.komfortchain.login.shared.security.FailedLoginTracker;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+import com.cabos.komfortchain.login.spring.security.PasswordEncoderAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginUseCaseBenchmark {
+
+    @Param({"4", "10"})
+    private int strength;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private InMemoryUserRepository userRepository;
+    private AuthenticateUserUseCase authenticateUserUseCase;
+    private RegisterUserUseCase registerUserUseCase;
+    private ValidateTokenUseCase validateTokenUseCase;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userRepository = new InMemoryUserRepository();
+        PasswordEncoderPort passwordEncoder =
+                new PasswordEncoderAdapter(new BCryptPasswordEncoder(strength));
+        JwtTokenProvider tokenProvider = Fixtures.tokenProvider();
+        AuditEventPort auditEvents = event -> {
+        };
+
+        authenticateUserUseCase = new AuthenticateUserService(userRepository, passwordEncoder, tokenProvider,
+                new FailedLoginTracker(new LockoutProperties()), auditEvents);
+        registerUserUseCase = new RegisterUserService(userRepository, passwordEncoder, auditEvents);
+        validateTokenUseCase = new ValidateTokenService(tokenProvider);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetUsers() {
+        userRepository.clear();
+        registerUserUseCase.register(new RegisterUserUseCase.RegisterUserCommand(
+                Fixtures.NAME, Fixtures.EMAIL, Fixtures.PASSWORD));
+        token = authenticateUserUseCase.authenticate(Fixtures.EMAIL, Fixtures.PASSWORD).token();
+    }
+
+    @Benchmark
+    public AuthenticateUserUseCase.AuthenticationResult authenticate() {
+        return authenticateUserUseCase.authenticate(Fixtures.EMAIL, Fixtures.PASSWORD);
+    }
+
+    @Benchmark
+    public User register() {
+        String email = "bench-" + sequence.incrementAndGet() + "@example.com";
+        return registerUserUseCase.register(new RegisterUserUseCase.RegisterUserCommand(
+                Fixtures.NAME, email, Fixtures.PASSWORD));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String validate() {
+        return validateTokenUseCase.validate(token);
+    }
+}
@@ -0,0 +1,89 @@
+package com.cabos.komfortchain.login.benchmark;
+
+import com.cabos.komfortchain.login.benchmark.support.LegacyTokenCodec;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.token.CompactTokenCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenCodecBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final String SUBJECT = "3f1c2d4e-5a6b-7c8d-9e0f-112233445566";
+    private static final Set<Role> ROLES = Set.of(Role.USER, Role.ADMIN);
+
+    private LegacyTokenCodec legacyCodec;
+    private CompactTokenCodec compactCodec;
+    private long expiresAt;
+    private long now;
+    private String legacyToken;
+    private String compactToken;
+    private ByteBuffer compactTokenBytes;
+
+    @Setup
+    public void setUp() {
+        legacyCodec = new LegacyTokenCodec(SECRET);
+        compactCodec = new CompactTokenCodec(SECRET.getBytes(StandardCharsets.UTF_8));
+        now = Instant.now().getEpochSecond();
+        expiresAt = now + 3600;
+        legacyToken = legacyCodec.encode(SUBJECT, expiresAt, ROLES);
+        compactToken = compactCodec.encode(SUBJECT, expiresAt, ROLES);
+        compactTokenBytes = ByteBuffer.wrap(compactToken.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public String legacyEncode() {
+        return legacyCodec.encode(SUBJECT, expiresAt, ROLES);
+    }
+
+    @Benchmark
+    public String compactEncode() {
+        return compactCodec.encode(SUBJECT, expiresAt, ROLES);
+    }
+
+    @Benchmark
+    public boolean legacyVerify() {
+        return legacyCodec.verify(legacyToken, now);
+    }
+
+    @Benchmark
+    public boolean compactVerify() {
+        return compactCodec.verify(compactToken, now);
+    }
+
+    @Benchmark
+    public boolean compactVerifyBytes() {
+        return compactCodec.verify(compactTokenBytes, now);
+    }
+
+    @Benchmark
+    public String legacyVerifyAndSubject() {
+        return legacyCodec.verify(legacyToken, now) ? legacyCodec.subject(legacyToken) : null;
+    }
+
+    @Benchmark
+    public TokenClaims compactDecode() {
+        return compactCodec.decode(compactToken, now);
+    }
+}
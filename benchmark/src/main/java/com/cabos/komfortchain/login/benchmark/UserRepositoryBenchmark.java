@@ -0,0 +1,74 @@
+package com.cabos.komfortchain.login.benchmark;
+
+import com.cabos.komfortchain.login.benchmark.support.InMemoryUserRepository;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.cabos.komfortchain.login.spring.configuration.UserStoreProperties;
+import com.cabos.komfortchain.login.spring.persistence.memory.CompactUserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credential lookups by email against {@link CompactUserRepository} and a plain
+ * {@code ConcurrentHashMap} of {@link User}s. Run with {@code -prof gc} to compare allocation;
+ * retained heap per user is best compared with a heap histogram after setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserRepositoryBenchmark {
+
+    private static final String HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3nR0c6a3e4fVbWgQ1k8mG5e";
+
+    @Param({"compact", "map"})
+    private String store;
+
+    @Param({"100000"})
+    private int users;
+
+    private UserRepositoryPort repository;
+    private String[] emails;
+
+    @Setup
+    public void setUp() {
+        repository = "compact".equals(store)
+                ? new CompactUserRepository(new UserStoreProperties())
+                : new InMemoryUserRepository();
+        emails = new String[users];
+        for (int i = 0; i < users; i++) {
+            emails[i] = "user-" + i + "@example.com";
+            repository.insert(new User(UUID.randomUUID().toString(), "User " + i, emails[i], HASH,
+                    Set.of(Role.USER), true));
+        }
+    }
+
+    @Benchmark
+    public Optional<UserCredentials> findCredentialsByEmail() {
+        return repository.findCredentialsByEmail(emails[ThreadLocalRandom.current().nextInt(users)]);
+    }
+
+    @Benchmark
+    public boolean existsByEmailMiss() {
+        return repository.existsByEmail("missing-" + ThreadLocalRandom.current().nextInt(users) + "@example.com");
+    }
+}
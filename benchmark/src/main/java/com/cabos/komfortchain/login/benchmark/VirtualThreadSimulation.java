@@ -0,0 +1,169 @@
+package com.cabos.komfortchain.login.benchmark;
+
+import com.cabos.komfortchain.login.benchmark.support.Fixtures;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+import com.cabos.komfortchain.login.spring.security.BoundedPasswordEncoder;
+import com.cabos.komfortchain.login.spring.security.PasswordEncoderAdapter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-model micro-simulation comparing a Tomcat-sized platform-thread pool against one virtual
+ * thread per request. It runs no server, driver or Mongo: each simulated request verifies a bearer
+ * token and then sleeps for {@code --mongo-latency-ms}; a configurable share also performs a BCrypt
+ * check through {@link BoundedPasswordEncoder}, as the login-service does when virtual threads are
+ * enabled. Latency includes time spent queued for a thread.
+ * <p>
+ * The numbers bound what the thread model alone can change. To measure the service itself, run the
+ * {@code loadtest} harness against login-service with {@code VIRTUAL_THREADS_ENABLED} off and on.
+ * <pre>
+ * java -cp benchmark/target/benchmarks.jar com.cabos.komfortchain.login.benchmark.VirtualThreadSimulation \
+ *      --clients=2000 --duration=20 --mongo-latency-ms=5 --login-ratio=0.02
+ * </pre>
+ */
+public class VirtualThreadSimulation {
+
+    private static final int MAX_SAMPLES = 4_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parse(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        int platformThreads = Integer.parseInt(options.getOrDefault("platform-threads", "200"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "20"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "5"));
+        long mongoLatencyMillis = Long.parseLong(options.getOrDefault("mongo-latency-ms", "5"));
+        double loginRatio = Double.parseDouble(options.getOrDefault("login-ratio", "0.02"));
+        int strength = Integer.parseInt(options.getOrDefault("bcrypt-strength", "8"));
+
+        JwtTokenProvider tokenProvider = Fixtures.tokenProvider();
+        String token = tokenProvider.generateToken("3f1c2d4e-5a6b-7c8d-9e0f-112233445566", Set.of(Role.USER));
+        PasswordEncoderPort adapter = new PasswordEncoderAdapter(new BCryptPasswordEncoder(strength));
+        String hash = adapter.encode(Fixtures.PASSWORD);
+
+        System.out.printf("clients=%d platform-threads=%d mongo-latency=%dms login-ratio=%.3f bcrypt=%d%n",
+                clients, platformThreads, mongoLatencyMillis, loginRatio, strength);
+
+        for (String mode : new String[]{"platform", "virtual"}) {
+            try (BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(
+                    adapter, Runtime.getRuntime().availableProcessors(), 1024, Duration.ofSeconds(30), 1L);
+                 ExecutorService executor = "platform".equals(mode)
+                         ? Executors.newFixedThreadPool(platformThreads)
+                         : Executors.newVirtualThreadPerTaskExecutor()) {
+
+                Runnable request = () -> {
+                    if (!tokenProvider.parseToken(token).valid()) {
+                        throw new IllegalStateException("Benchmark token rejected");
+                    }
+                    sleep(mongoLatencyMillis);
+                    if (ThreadLocalRandom.current().nextDouble() < loginRatio) {
+                        passwordEncoder.matches(Fixtures.PASSWORD, hash);
+                    }
+                };
+
+                run(executor, request, clients, TimeUnit.SECONDS.toNanos(warmupSeconds), null);
+                Result result = new Result();
+                run(executor, request, clients, TimeUnit.SECONDS.toNanos(durationSeconds), result);
+                result.print(mode, durationSeconds);
+            }
+        }
+    }
+
+    private static void run(ExecutorService executor, Runnable request, int clients, long durationNanos, Result result)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(clients);
+        long deadline = System.nanoTime() + durationNanos;
+
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(10, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            executor.execute(() -> {
+                boolean ok = false;
+                try {
+                    request.run();
+                    ok = true;
+                } finally {
+                    if (result != null) {
+                        result.record(System.nanoTime() - start, ok);
+                    }
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(clients);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class Result {
+
+        private final long[] samples = new long[MAX_SAMPLES];
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(long latencyNanos, boolean ok) {
+            completed.increment();
+            if (!ok) {
+                failed.increment();
+            }
+            int index = cursor.getAndIncrement();
+            if (index < samples.length) {
+                samples[index] = latencyNanos;
+            }
+        }
+
+        void print(String mode, long durationSeconds) {
+            int count = Math.min(cursor.get(), samples.length);
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-8s throughput=%,.0f req/s p50=%.2fms p99=%.2fms p999=%.2fms failed=%d%n",
+                    mode,
+                    completed.sum() / (double) durationSeconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 0.999),
+                    failed.sum());
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
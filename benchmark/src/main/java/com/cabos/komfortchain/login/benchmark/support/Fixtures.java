@@ -0,0 +1,21 @@
+package com.cabos.komfortchain.login.benchmark.support;
+
+import com.cabos.komfortchain.login.shared.configuration.JwtProperties;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+
+public final class Fixtures {
+
+    public static final String EMAIL = "bench@example.com";
+    public static final String PASSWORD = "bench-password";
+    public static final String NAME = "Bench User";
+
+    private Fixtures() {
+    }
+
+    public static JwtTokenProvider tokenProvider() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret");
+        properties.setExpirationSeconds(3600L);
+        return new JwtTokenProvider(properties);
+    }
+}
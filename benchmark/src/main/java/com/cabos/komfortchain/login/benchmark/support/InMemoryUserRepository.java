@@ -0,0 +1,77 @@
+package com.cabos.komfortchain.login.benchmark.support;
+
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryUserRepository implements UserRepositoryPort {
+
+    private final Map<String, User> usersByEmail = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(usersByEmail.get(email));
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        return findByEmail(email)
+                .map(user -> new UserCredentials(user.id(), user.passwordHash(), user.roles(), user.active()));
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsById(String id) {
+        return usersByEmail.values().stream()
+                .filter(user -> user.id().equals(id))
+                .findFirst()
+                .map(user -> new UserCredentials(user.id(), user.passwordHash(), user.roles(), user.active()));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return usersByEmail.containsKey(email);
+    }
+
+    @Override
+    public User save(User user) {
+        usersByEmail.put(user.email(), user);
+        return user;
+    }
+
+    @Override
+    public User insert(User user) {
+        if (usersByEmail.putIfAbsent(user.email(), user) != null) {
+            throw new UserAlreadyExistsException(user.email());
+        }
+        return user;
+    }
+
+    @Override
+    public List<User> insertAll(List<User> users) {
+        List<User> inserted = new ArrayList<>(users.size());
+        for (User user : users) {
+            if (usersByEmail.putIfAbsent(user.email(), user) == null) {
+                inserted.add(user);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public void updatePasswordHash(String id, String passwordHash) {
+        usersByEmail.replaceAll((email, user) -> user.id().equals(id)
+                ? new User(user.id(), user.name(), user.email(), passwordHash, user.roles(), user.active())
+                : user);
+    }
+
+    public void clear() {
+        usersByEmail.clear();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cabos.komfortchain.login.benchmark.support;
+
+import com.cabos.komfortchain.login.domain.model.Role;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The original {@code subject|exp|roles|secret} Base64 token format, kept only as a benchmark baseline.
+ */
+public class LegacyTokenCodec {
+
+    private final String secret;
+
+    public LegacyTokenCodec(String secret) {
+        this.secret = secret;
+    }
+
+    public String encode(String subject, long expiresAtEpochSeconds, Set<Role> roles) {
+        String rolesStr = roles.stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+
+        String payload = subject + "|" + expiresAtEpochSeconds + "|" + rolesStr + "|" + secret;
+        return Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean verify(String token, long nowEpochSeconds) {
+        try {
+            String decoded = new String(Base64.getDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length < 4) {
+                return false;
+            }
+            long expiration = Long.parseLong(parts[1]);
+            return nowEpochSeconds <= expiration && secret.equals(parts[3]);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public String subject(String token) {
+        String decoded = new String(Base64.getDecoder().decode(token), StandardCharsets.UTF_8);
+        return decoded.split("\\|")[0];
+    }
+}
@@ -0,0 +1,15 @@
+package com.cabos.komfortchain.login.domain.exception;
+
+public class AccountLockedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AccountLockedException(long retryAfterSeconds) {
+        super("Too many failed logins, account temporarily locked");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,36 @@
+package com.cabos.komfortchain.login.domain.model;
+
+/**
+ * Outcome of one login or registration attempt. {@code userId} is {@code null} when no account
+ * was resolved (unknown address, or a failure before the lookup completed); {@code reason} is
+ * {@code null} on success.
+ */
+public record AuditEvent(
+        Type type,
+        boolean success,
+        String userId,
+        String email,
+        String reason,
+        long timestampEpochMillis
+) {
+
+    public static final String UNKNOWN_USER = "unknown_user";
+    public static final String INACTIVE = "inactive";
+    public static final String BAD_PASSWORD = "bad_password";
+    public static final String LOCKED = "locked";
+    public static final String DUPLICATE = "duplicate";
+    public static final String ERROR = "error";
+
+    public static AuditEvent success(Type type, String userId, String email) {
+        return new AuditEvent(type, true, userId, email, null, System.currentTimeMillis());
+    }
+
+    public static AuditEvent failure(Type type, String userId, String email, String reason) {
+        return new AuditEvent(type, false, userId, email, reason, System.currentTimeMillis());
+    }
+
+    public enum Type {
+        LOGIN,
+        REGISTER
+    }
+}
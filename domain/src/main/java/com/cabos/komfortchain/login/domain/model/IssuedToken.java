@@ -0,0 +1,4 @@
+package com.cabos.komfortchain.login.domain.model;
+
+public record IssuedToken(String token, TokenClaims claims) {
+}
@@ -0,0 +1,12 @@
+package com.cabos.komfortchain.login.domain.model;
+
+/**
+ * What a stored refresh token entitles its holder to: new access tokens for {@code userId}, with
+ * the roles the user has at the time of each refresh, until {@code expiresAtEpochSeconds}. The
+ * expiry is fixed at login and carried over by every rotation.
+ */
+public record RefreshTokenGrant(
+        String userId,
+        long expiresAtEpochSeconds
+) {
+}
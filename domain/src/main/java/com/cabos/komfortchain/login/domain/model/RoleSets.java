@@ -0,0 +1,58 @@
+package com.cabos.komfortchain.login.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shared immutable {@link Role} sets indexed by a bit mask of role ordinals.
+ * Masks are persisted inside tokens, so new roles must only be appended to {@link Role}.
+ */
+public final class RoleSets {
+
+    private static final Role[] ROLES = Role.values();
+    private static final List<Set<Role>> BY_MASK = buildAll();
+
+    private RoleSets() {
+    }
+
+    public static int toMask(Set<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= 1 << role.ordinal();
+        }
+        return mask;
+    }
+
+    public static boolean isValidMask(int mask) {
+        return mask >= 0 && mask < BY_MASK.size();
+    }
+
+    public static Set<Role> fromMask(int mask) {
+        if (!isValidMask(mask)) {
+            throw new IllegalArgumentException("Unknown role mask: " + mask);
+        }
+        return BY_MASK.get(mask);
+    }
+
+    public static Set<Role> canonical(Set<Role> roles) {
+        return fromMask(toMask(roles));
+    }
+
+    private static List<Set<Role>> buildAll() {
+        int combinations = 1 << ROLES.length;
+        List<Set<Role>> sets = new ArrayList<>(combinations);
+        for (int mask = 0; mask < combinations; mask++) {
+            EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+            for (Role role : ROLES) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    roles.add(role);
+                }
+            }
+            sets.add(Collections.unmodifiableSet(roles));
+        }
+        return List.copyOf(sets);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cabos.komfortchain.login.domain.model;
+
+import java.util.Set;
+
+/**
+ * @param tokenId identifies one issued token (derived from its signature); used for revocation
+ */
+public record TokenClaims(
+        String subject,
+        long expiresAtEpochSeconds,
+        Set<Role> roles,
+        boolean valid,
+        long tokenId
+) {
+
+    private static final TokenClaims INVALID = new TokenClaims(null, 0L, Set.of(), false, 0L);
+
+    public static TokenClaims invalid() {
+        return INVALID;
+    }
+}
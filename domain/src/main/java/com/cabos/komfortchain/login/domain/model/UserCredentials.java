@@ -0,0 +1,11 @@
+package com.cabos.komfortchain.login.domain.model;
+
+import java.util.Set;
+
+public record UserCredentials(
+        String id,
+        String passwordHash,
+        Set<Role> roles,
+        boolean active
+) {
+}
@@ -0,0 +1,12 @@
+package com.cabos.komfortchain.login.domain.port;
+
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+
+/**
+ * Receives the outcome of every login and registration. {@link #record} runs on the request path:
+ * implementations hand the event off and return, and may drop it rather than block.
+ */
+public interface AuditEventPort {
+
+    void record(AuditEvent event);
+}
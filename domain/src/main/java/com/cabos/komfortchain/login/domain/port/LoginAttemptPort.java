@@ -0,0 +1,18 @@
+package com.cabos.komfortchain.login.domain.port;
+
+/**
+ * Counts failed password checks per account and locks accounts that keep failing.
+ * {@link #lockedForSeconds} runs on every login before the user lookup and the password hash,
+ * and must not perform I/O.
+ */
+public interface LoginAttemptPort {
+
+    /**
+     * @return seconds until the account may try again, or {@code 0} if it is not locked
+     */
+    long lockedForSeconds(String email);
+
+    void recordFailure(String email);
+
+    void recordSuccess(String email);
+}
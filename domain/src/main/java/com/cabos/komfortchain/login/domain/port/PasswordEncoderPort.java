@@ -5,4 +5,6 @@ public interface PasswordEncoderPort {
     String encode(String rawPassword);
 
     boolean matches(String rawPassword, String encodedPassword);
+
+    boolean upgradeEncoding(String encodedPassword);
 }
\ No newline at end of file
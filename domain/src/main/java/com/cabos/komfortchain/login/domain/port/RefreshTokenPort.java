@@ -0,0 +1,25 @@
+package com.cabos.komfortchain.login.domain.port;
+
+import com.cabos.komfortchain.login.domain.model.RefreshTokenGrant;
+
+import java.util.Optional;
+
+/**
+ * Stores refresh tokens by hash only; the raw token never reaches the store.
+ */
+public interface RefreshTokenPort {
+
+    void store(String tokenHash, RefreshTokenGrant grant);
+
+    /**
+     * Atomically removes and returns the grant, so a refresh token can be used at most once
+     * even when presented concurrently.
+     */
+    Optional<RefreshTokenGrant> consume(String tokenHash);
+
+    /**
+     * Removes every grant of the user, so refresh tokens issued before a logout or a revocation
+     * can no longer mint access tokens.
+     */
+    void revokeAll(String userId);
+}
@@ -2,15 +2,21 @@ package com.cabos.komfortchain.login.domain.port;
 
 import java.util.Set;
 
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
 import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
 
 public interface TokenProviderPort {
 
     String generateToken(String subject, Set<Role> roles);
 
+    IssuedToken issueToken(String subject, Set<Role> roles);
+
+    TokenClaims parseToken(String token);
+
     boolean validateToken(String token);
 
     String getSubject(String token);
 
     long getExpiration(String token);
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.cabos.komfortchain.login.domain.port;
+
+/**
+ * Revoked tokens are identified by {@code TokenClaims#tokenId()}. {@link #isRevoked} sits on the
+ * path of every authenticated request and must not perform I/O.
+ */
+public interface TokenRevocationPort {
+
+    void revoke(long tokenId, long expiresAtEpochSeconds);
+
+    boolean isRevoked(long tokenId);
+}
@@ -1,14 +1,40 @@
 package com.cabos.komfortchain.login.domain.port;
 
 import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepositoryPort {
 
     Optional<User> findByEmail(String email);
 
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    /**
+     * Reads the current roles and status of a user known only by id, e.g. on a token refresh.
+     */
+    Optional<UserCredentials> findCredentialsById(String id);
+
     boolean existsByEmail(String email);
 
     User save(User user);
+
+    /**
+     * Inserts a new user in a single write.
+     *
+     * @throws com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException if the email is taken
+     */
+    User insert(User user);
+
+    /**
+     * Inserts new users in as few writes as the store allows. Users whose email is already taken,
+     * including by an earlier user of the same batch, are skipped rather than failing the batch.
+     *
+     * @return the users that were inserted, in input order
+     */
+    List<User> insertAll(List<User> users);
+
+    void updatePasswordHash(String id, String passwordHash);
 }
\ No newline at end of file
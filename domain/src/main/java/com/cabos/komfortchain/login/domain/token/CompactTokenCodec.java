@@ -0,0 +1,362 @@
+package com.cabos.komfortchain.login.domain.token;
+
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.RoleSets;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HMAC-SHA256 signed compact token: {@code base64url(claims) "." base64url(signature)}.
+ * <p>
+ * The binary claims are {@code version(1) | expiresAt(8) | roleMask(1) | subject(UTF-8)}.
+ * Verification decodes into per-thread scratch buffers with a per-thread {@link Mac},
+ * so checking a token allocates nothing beyond what the JCE does internally;
+ * only {@link #decode} materializes the subject string.
+ * <p>
+ * The token id is the first 8 bytes of the signature: unique per issued token and free to compute
+ * on every verification.
+ * <p>
+ * Virtual threads are short-lived, so a thread-local would rebuild its {@link Mac} on every request;
+ * they borrow scratch state from a shared pool instead. Verification never blocks, so only about one
+ * scratch per carrier thread is in use at a time; the pool keeps at most {@link #MAX_SHARED_SCRATCH}
+ * and lets any surplus from a burst be collected.
+ */
+public final class CompactTokenCodec {
+
+    public static final int MAX_SUBJECT_BYTES = 255;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 1 + Long.BYTES + 1;
+    private static final int ROLE_MASK_OFFSET = 1 + Long.BYTES;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int MAX_PAYLOAD_LENGTH = HEADER_LENGTH + MAX_SUBJECT_BYTES;
+    private static final int MAX_TOKEN_LENGTH =
+            encodedLength(MAX_PAYLOAD_LENGTH) + 1 + encodedLength(SIGNATURE_LENGTH);
+    private static final char SEPARATOR = '.';
+    private static final int MAX_SHARED_SCRATCH = 4 * Runtime.getRuntime().availableProcessors();
+
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE_TABLE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Scratch> scratch;
+    private final ConcurrentLinkedQueue<Scratch> sharedScratch = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sharedScratchSize = new AtomicInteger();
+
+    public CompactTokenCodec(byte[] secret) {
+        this.key = new SecretKeySpec(secret.clone(), ALGORITHM);
+        newMac(key);
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(newMac(key)));
+    }
+
+    public String encode(String subject, long expiresAtEpochSeconds, Set<Role> roles) {
+        return issue(subject, expiresAtEpochSeconds, roles).token();
+    }
+
+    public IssuedToken issue(String subject, long expiresAtEpochSeconds, Set<Role> roles) {
+        byte[] subjectBytes = subject.getBytes(StandardCharsets.UTF_8);
+        if (subjectBytes.length > MAX_SUBJECT_BYTES) {
+            throw new IllegalArgumentException("Token subject exceeds " + MAX_SUBJECT_BYTES + " bytes");
+        }
+
+        Scratch s = acquire();
+        try {
+            byte[] payload = s.payload;
+            payload[0] = VERSION;
+            writeLong(payload, 1, expiresAtEpochSeconds);
+            payload[ROLE_MASK_OFFSET] = (byte) RoleSets.toMask(roles);
+            System.arraycopy(subjectBytes, 0, payload, HEADER_LENGTH, subjectBytes.length);
+            int payloadLength = HEADER_LENGTH + subjectBytes.length;
+
+            sign(s, payloadLength);
+
+            int length = encodeBase64(payload, payloadLength, s.text, 0);
+            s.text[length++] = SEPARATOR;
+            length = encodeBase64(s.expected, SIGNATURE_LENGTH, s.text, length);
+            String token = new String(s.text, 0, length, StandardCharsets.ISO_8859_1);
+            return new IssuedToken(token, new TokenClaims(
+                    subject, expiresAtEpochSeconds, RoleSets.canonical(roles), true, readLong(s.expected, 0)));
+        } finally {
+            release(s);
+        }
+    }
+
+    public boolean verify(CharSequence token, long nowEpochSeconds) {
+        Scratch s = acquire();
+        try {
+            return verifyInto(s, token, nowEpochSeconds) >= 0;
+        } finally {
+            release(s);
+        }
+    }
+
+    public boolean verify(ByteBuffer token, long nowEpochSeconds) {
+        Scratch s = acquire();
+        try {
+            return verifyInto(s, token, nowEpochSeconds) >= 0;
+        } finally {
+            release(s);
+        }
+    }
+
+    public TokenClaims decode(CharSequence token, long nowEpochSeconds) {
+        Scratch s = acquire();
+        try {
+            return toClaims(s, verifyInto(s, token, nowEpochSeconds));
+        } finally {
+            release(s);
+        }
+    }
+
+    public TokenClaims decode(ByteBuffer token, long nowEpochSeconds) {
+        Scratch s = acquire();
+        try {
+            return toClaims(s, verifyInto(s, token, nowEpochSeconds));
+        } finally {
+            release(s);
+        }
+    }
+
+    private Scratch acquire() {
+        if (!Thread.currentThread().isVirtual()) {
+            return scratch.get();
+        }
+        Scratch s = sharedScratch.poll();
+        if (s == null) {
+            return new Scratch(newMac(key));
+        }
+        sharedScratchSize.decrementAndGet();
+        return s;
+    }
+
+    private void release(Scratch s) {
+        if (!Thread.currentThread().isVirtual()) {
+            return;
+        }
+        if (sharedScratchSize.incrementAndGet() <= MAX_SHARED_SCRATCH) {
+            sharedScratch.offer(s);
+        } else {
+            sharedScratchSize.decrementAndGet();
+        }
+    }
+
+    private TokenClaims toClaims(Scratch s, int payloadLength) {
+        if (payloadLength < 0) {
+            return TokenClaims.invalid();
+        }
+        byte[] payload = s.payload;
+        return new TokenClaims(
+                new String(payload, HEADER_LENGTH, payloadLength - HEADER_LENGTH, StandardCharsets.UTF_8),
+                readLong(payload, 1),
+                RoleSets.fromMask(payload[ROLE_MASK_OFFSET] & 0xFF),
+                true,
+                readLong(s.signature, 0)
+        );
+    }
+
+    private int verifyInto(Scratch s, CharSequence token, long now) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            return -1;
+        }
+        int separator = -1;
+        for (int i = 0; i < length; i++) {
+            if (token.charAt(i) == SEPARATOR) {
+                separator = i;
+                break;
+            }
+        }
+        if (separator < 0) {
+            return -1;
+        }
+        int payloadLength = decodeBase64(token, 0, separator, s.payload);
+        int signatureLength = decodeBase64(token, separator + 1, length, s.signature);
+        return check(s, payloadLength, signatureLength, now);
+    }
+
+    private int verifyInto(Scratch s, ByteBuffer token, long now) {
+        int start = token.position();
+        int end = token.limit();
+        if (end - start > MAX_TOKEN_LENGTH) {
+            return -1;
+        }
+        int separator = -1;
+        for (int i = start; i < end; i++) {
+            if (token.get(i) == SEPARATOR) {
+                separator = i;
+                break;
+            }
+        }
+        if (separator < 0) {
+            return -1;
+        }
+        int payloadLength = decodeBase64(token, start, separator, s.payload);
+        int signatureLength = decodeBase64(token, separator + 1, end, s.signature);
+        return check(s, payloadLength, signatureLength, now);
+    }
+
+    private int check(Scratch s, int payloadLength, int signatureLength, long now) {
+        if (payloadLength < HEADER_LENGTH || signatureLength != SIGNATURE_LENGTH) {
+            return -1;
+        }
+        byte[] payload = s.payload;
+        if (payload[0] != VERSION || !RoleSets.isValidMask(payload[ROLE_MASK_OFFSET] & 0xFF)) {
+            return -1;
+        }
+
+        sign(s, payloadLength);
+
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= s.signature[i] ^ s.expected[i];
+        }
+        if (diff != 0 || now > readLong(payload, 1)) {
+            return -1;
+        }
+        return payloadLength;
+    }
+
+    private void sign(Scratch s, int payloadLength) {
+        try {
+            s.mac.update(s.payload, 0, payloadLength);
+            s.mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int decodeBase64(CharSequence src, int from, int to, byte[] dst) {
+        int accumulator = 0;
+        int bits = 0;
+        int out = 0;
+        for (int i = from; i < to; i++) {
+            int value = sextet(src.charAt(i));
+            if (value < 0) {
+                return -1;
+            }
+            accumulator = (accumulator << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (out == dst.length) {
+                    return -1;
+                }
+                dst[out++] = (byte) (accumulator >> bits);
+                accumulator &= (1 << bits) - 1;
+            }
+        }
+        return accumulator == 0 && bits < 6 ? out : -1;
+    }
+
+    private static int decodeBase64(ByteBuffer src, int from, int to, byte[] dst) {
+        int accumulator = 0;
+        int bits = 0;
+        int out = 0;
+        for (int i = from; i < to; i++) {
+            int value = sextet((char) (src.get(i) & 0xFF));
+            if (value < 0) {
+                return -1;
+            }
+            accumulator = (accumulator << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (out == dst.length) {
+                    return -1;
+                }
+                dst[out++] = (byte) (accumulator >> bits);
+                accumulator &= (1 << bits) - 1;
+            }
+        }
+        return accumulator == 0 && bits < 6 ? out : -1;
+    }
+
+    private static int sextet(char c) {
+        return c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+    }
+
+    private static int encodeBase64(byte[] src, int length, byte[] dst, int offset) {
+        int out = offset;
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int chunk = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[out++] = ALPHABET[chunk >>> 18];
+            dst[out++] = ALPHABET[(chunk >>> 12) & 0x3F];
+            dst[out++] = ALPHABET[(chunk >>> 6) & 0x3F];
+            dst[out++] = ALPHABET[chunk & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int chunk = (src[i] & 0xFF) << 16;
+            dst[out++] = ALPHABET[chunk >>> 18];
+            dst[out++] = ALPHABET[(chunk >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int chunk = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[out++] = ALPHABET[chunk >>> 18];
+            dst[out++] = ALPHABET[(chunk >>> 12) & 0x3F];
+            dst[out++] = ALPHABET[(chunk >>> 6) & 0x3F];
+        }
+        return out;
+    }
+
+    private static int encodedLength(int bytes) {
+        return (bytes * 4 + 2) / 3;
+    }
+
+    private static void writeLong(byte[] dst, int offset, long value) {
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            dst[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] src, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (src[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise " + ALGORITHM, e);
+        }
+    }
+
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] payload = new byte[MAX_PAYLOAD_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] text = new byte[MAX_TOKEN_LENGTH];
+
+        private Scratch(Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
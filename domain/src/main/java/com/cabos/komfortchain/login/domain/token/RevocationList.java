@@ -0,0 +1,99 @@
+package com.cabos.komfortchain.login.domain.token;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Revoked token ids kept in memory until the tokens expire. A Bloom filter answers the common
+ * "not revoked" case from a few bit reads; only its positives (revoked tokens and the configured
+ * false-positive rate) reach the exact map. Expired entries are dropped by {@link #purgeExpired},
+ * which also rebuilds the filter, since bits cannot be cleared individually.
+ * <p>
+ * Reads are lock-free; writes and rebuilds are serialized.
+ */
+public class RevocationList {
+
+    private final Map<Long, Long> expiries = new ConcurrentHashMap<>();
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+
+    public RevocationList(int expectedEntries, double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    public boolean contains(long tokenId) {
+        return filter.mightContain(tokenId) && expiries.containsKey(tokenId);
+    }
+
+    public synchronized void add(long tokenId, long expiresAtEpochSeconds) {
+        expiries.merge(tokenId, expiresAtEpochSeconds, Math::max);
+        filter.add(tokenId);
+        if (expiries.size() > filter.capacity) {
+            rebuild();
+        }
+    }
+
+    public synchronized void purgeExpired(long nowEpochSeconds) {
+        if (expiries.values().removeIf(expiresAt -> expiresAt < nowEpochSeconds)) {
+            rebuild();
+        }
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, expiries.size() * 2), falsePositiveRate);
+        expiries.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+        private final int capacity;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) >>> 6));
+            this.bits = (long) words.length() << 6;
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        // Token ids are HMAC output, already uniformly distributed: double hashing over its halves.
+        void add(long tokenId) {
+            long h1 = tokenId & 0xFFFFFFFFL;
+            long h2 = (tokenId >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) % bits;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                while (((current = words.get(word)) & mask) == 0
+                        && !words.compareAndSet(word, current, current | mask)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        boolean mightContain(long tokenId) {
+            long h1 = tokenId & 0xFFFFFFFFL;
+            long h2 = (tokenId >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) % bits;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.AccountLockedException;
+import com.cabos.komfortchain.login.domain.exception.InvalidCredentialsException;
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.domain.port.LoginAttemptPort;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent attempts with the same email and password are coalesced: the first one looks the
+ * user up and checks the password, the others wait for its verdict instead of running their own
+ * BCrypt. The shared entry is keyed by the email and a SHA-256 of the password, and is removed as
+ * soon as that verification finishes, so a later attempt always verifies afresh. Each caller still
+ * gets its own token and audit event; a shared wrong password counts as one failure.
+ */
+public class AuthenticateUserService implements AuthenticateUserUseCase {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final UserRepositoryPort userRepository;
+    private final PasswordEncoderPort passwordEncoder;
+    private final TokenProviderPort tokenProvider;
+    private final LoginAttemptPort loginAttempts;
+    private final AuditEventPort auditEvents;
+    private final ConcurrentHashMap<Attempt, CompletableFuture<Verification>> inFlight = new ConcurrentHashMap<>();
+
+    public AuthenticateUserService(UserRepositoryPort userRepository,
+                                   PasswordEncoderPort passwordEncoder,
+                                   TokenProviderPort tokenProvider,
+                                   LoginAttemptPort loginAttempts,
+                                   AuditEventPort auditEvents) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenProvider = tokenProvider;
+        this.loginAttempts = loginAttempts;
+        this.auditEvents = auditEvents;
+    }
+
+    /**
+     * A locked account is rejected before the user lookup and the password hash.
+     */
+    @Override
+    public AuthenticationResult authenticate(String email, String rawPassword) {
+        long lockedForSeconds = loginAttempts.lockedForSeconds(email);
+        if (lockedForSeconds > 0) {
+            auditEvents.record(AuditEvent.failure(AuditEvent.Type.LOGIN, null, email, AuditEvent.LOCKED));
+            throw new AccountLockedException(lockedForSeconds);
+        }
+
+        Verification verification;
+        try {
+            verification = verifyCoalesced(email, rawPassword);
+        } catch (RuntimeException e) {
+            auditEvents.record(AuditEvent.failure(AuditEvent.Type.LOGIN, null, email, AuditEvent.ERROR));
+            throw e;
+        }
+
+        UserCredentials user = verification.user();
+        String userId = user == null ? null : user.id();
+        if (verification.failureReason() != null) {
+            auditEvents.record(AuditEvent.failure(AuditEvent.Type.LOGIN, userId, email, verification.failureReason()));
+            throw new InvalidCredentialsException();
+        }
+
+        try {
+            IssuedToken issued = tokenProvider.issueToken(user.id(), user.roles());
+            auditEvents.record(AuditEvent.success(AuditEvent.Type.LOGIN, userId, email));
+            return new AuthenticationResult(issued.token(), issued.claims().expiresAtEpochSeconds(), user);
+        } catch (RuntimeException e) {
+            auditEvents.record(AuditEvent.failure(AuditEvent.Type.LOGIN, userId, email, AuditEvent.ERROR));
+            throw e;
+        }
+    }
+
+    private Verification verifyCoalesced(String email, String rawPassword) {
+        Attempt attempt = new Attempt(email, digest(rawPassword));
+        CompletableFuture<Verification> own = new CompletableFuture<>();
+        CompletableFuture<Verification> running = inFlight.putIfAbsent(attempt, own);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            Verification verification = verify(email, rawPassword);
+            own.complete(verification);
+            return verification;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(attempt, own);
+        }
+    }
+
+    /**
+     * Only wrong passwords for existing accounts count as failures: unknown addresses cost no hashing.
+     */
+    private Verification verify(String email, String rawPassword) {
+        UserCredentials user = userRepository.findCredentialsByEmail(email).orElse(null);
+        if (user == null) {
+            return new Verification(null, AuditEvent.UNKNOWN_USER);
+        }
+        if (!user.active()) {
+            return new Verification(user, AuditEvent.INACTIVE);
+        }
+        if (!passwordEncoder.matches(rawPassword, user.passwordHash())) {
+            loginAttempts.recordFailure(email);
+            return new Verification(user, AuditEvent.BAD_PASSWORD);
+        }
+        loginAttempts.recordSuccess(email);
+
+        if (passwordEncoder.upgradeEncoding(user.passwordHash())) {
+            rehash(user, rawPassword);
+        }
+        return new Verification(user, null);
+    }
+
+    private void rehash(UserCredentials user, String rawPassword) {
+        try {
+            userRepository.updatePasswordHash(user.id(), passwordEncoder.encode(rawPassword));
+        } catch (RuntimeException e) {
+            // The login already succeeded; a failed rehash is retried on the next login.
+        }
+    }
+
+    private static Verification join(CompletableFuture<Verification> verification) {
+        try {
+            return verification.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String digest(String rawPassword) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(rawPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Attempt(String email, String credentialDigest) {
+    }
+
+    /**
+     * @param failureReason an {@link AuditEvent} reason, or {@code null} if the password matched
+     */
+    private record Verification(UserCredentials user, String failureReason) {
+    }
+}
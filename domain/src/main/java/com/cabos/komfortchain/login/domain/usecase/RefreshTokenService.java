@@ -0,0 +1,83 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.RefreshTokenGrant;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.RefreshTokenPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues opaque refresh tokens and exchanges them for a new access token without a password
+ * check. Every refresh rotates the refresh token: the presented one is consumed and a new one is
+ * returned with the same expiry, so a session ends {@code refreshTtlSeconds} after the login no
+ * matter how often it is refreshed. Each refresh reloads the user by id: roles come from the
+ * store, and a deleted or deactivated user can no longer refresh.
+ * <p>
+ * Tokens are 256 random bits, so a single unsalted SHA-256 is enough to keep the stored hashes
+ * useless to anyone reading the store.
+ */
+public class RefreshTokenService implements RefreshTokenUseCase {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final TokenProviderPort tokenProvider;
+    private final RefreshTokenPort refreshTokens;
+    private final UserRepositoryPort userRepository;
+    private final long refreshTtlSeconds;
+
+    public RefreshTokenService(TokenProviderPort tokenProvider,
+                               RefreshTokenPort refreshTokens,
+                               UserRepositoryPort userRepository,
+                               long refreshTtlSeconds) {
+        this.tokenProvider = tokenProvider;
+        this.refreshTokens = refreshTokens;
+        this.userRepository = userRepository;
+        this.refreshTtlSeconds = refreshTtlSeconds;
+    }
+
+    @Override
+    public IssuedRefreshToken issue(String userId) {
+        return store(new RefreshTokenGrant(userId, Instant.now().getEpochSecond() + refreshTtlSeconds));
+    }
+
+    @Override
+    public RefreshResult refresh(String refreshToken) {
+        RefreshTokenGrant grant = refreshTokens.consume(hash(refreshToken))
+                .filter(g -> g.expiresAtEpochSeconds() > Instant.now().getEpochSecond())
+                .orElseThrow(InvalidTokenException::new);
+        UserCredentials user = userRepository.findCredentialsById(grant.userId())
+                .filter(UserCredentials::active)
+                .orElseThrow(InvalidTokenException::new);
+
+        IssuedToken accessToken = tokenProvider.issueToken(user.id(), user.roles());
+        return new RefreshResult(accessToken, store(grant));
+    }
+
+    private IssuedRefreshToken store(RefreshTokenGrant grant) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = ENCODER.encodeToString(bytes);
+        refreshTokens.store(hash(token), grant);
+        return new IssuedRefreshToken(token, grant.expiresAtEpochSeconds());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+
+public interface RefreshTokenUseCase {
+
+    IssuedRefreshToken issue(String userId);
+
+    /**
+     * @throws com.cabos.komfortchain.login.domain.exception.InvalidTokenException if the refresh token
+     *                                                                             is unknown, used or expired,
+     *                                                                             or its user is gone or inactive
+     */
+    RefreshResult refresh(String refreshToken);
+
+    record IssuedRefreshToken(String token, long expiresAtEpochSeconds) {
+    }
+
+    record RefreshResult(IssuedToken accessToken, IssuedRefreshToken refreshToken) {
+    }
+}
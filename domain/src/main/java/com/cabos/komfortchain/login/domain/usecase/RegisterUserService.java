@@ -0,0 +1,116 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+public class RegisterUserService implements RegisterUserUseCase {
+
+    private final UserRepositoryPort userRepository;
+    private final PasswordEncoderPort passwordEncoder;
+    private final AuditEventPort auditEvents;
+
+    public RegisterUserService(UserRepositoryPort userRepository,
+                               PasswordEncoderPort passwordEncoder,
+                               AuditEventPort auditEvents) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.auditEvents = auditEvents;
+    }
+
+    @Override
+    public User register(RegisterUserCommand command) {
+        User user;
+        try {
+            user = userRepository.insert(newUser(command));
+        } catch (UserAlreadyExistsException e) {
+            auditEvents.record(AuditEvent.failure(AuditEvent.Type.REGISTER, null, command.email(), AuditEvent.DUPLICATE));
+            throw e;
+        } catch (RuntimeException e) {
+            auditEvents.record(AuditEvent.failure(AuditEvent.Type.REGISTER, null, command.email(), AuditEvent.ERROR));
+            throw e;
+        }
+        auditEvents.record(AuditEvent.success(AuditEvent.Type.REGISTER, user.id(), user.email()));
+        return user;
+    }
+
+    @Override
+    public List<RegistrationOutcome> registerAll(List<RegisterUserCommand> commands, Executor hashingExecutor) {
+        List<RegistrationOutcome> outcomes;
+        try {
+            outcomes = insertAll(commands, hashingExecutor);
+        } catch (RuntimeException e) {
+            for (RegisterUserCommand command : commands) {
+                auditEvents.record(AuditEvent.failure(AuditEvent.Type.REGISTER, null, command.email(), AuditEvent.ERROR));
+            }
+            throw e;
+        }
+        for (RegistrationOutcome outcome : outcomes) {
+            auditEvents.record(outcome.created()
+                    ? AuditEvent.success(AuditEvent.Type.REGISTER, outcome.user().id(), outcome.email())
+                    : AuditEvent.failure(AuditEvent.Type.REGISTER, null, outcome.email(), AuditEvent.DUPLICATE));
+        }
+        return outcomes;
+    }
+
+    private List<RegistrationOutcome> insertAll(List<RegisterUserCommand> commands, Executor hashingExecutor) {
+        List<CompletableFuture<User>> pending = new ArrayList<>(commands.size());
+        for (RegisterUserCommand command : commands) {
+            pending.add(CompletableFuture.supplyAsync(() -> newUser(command), hashingExecutor));
+        }
+
+        List<User> users = new ArrayList<>(commands.size());
+        for (CompletableFuture<User> user : pending) {
+            users.add(join(user));
+        }
+
+        Set<String> created = new HashSet<>();
+        for (User inserted : userRepository.insertAll(users)) {
+            created.add(inserted.id());
+        }
+
+        List<RegistrationOutcome> outcomes = new ArrayList<>(users.size());
+        for (User user : users) {
+            outcomes.add(new RegistrationOutcome(user.email(), created.contains(user.id()) ? user : null));
+        }
+        return outcomes;
+    }
+
+    private User newUser(RegisterUserCommand command) {
+        String id = UUID.randomUUID().toString();
+        String passwordHash = passwordEncoder.encode(command.rawPassword());
+
+        return new User(
+                id,
+                command.name(),
+                command.email(),
+                passwordHash,
+                Set.of(Role.USER),
+                true
+        );
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,45 +1,33 @@
 package com.cabos.komfortchain.login.domain.usecase;
 
-import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
-import com.cabos.komfortchain.login.domain.model.Role;
 import com.cabos.komfortchain.login.domain.model.User;
-import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
-import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
 
-import java.util.Set;
-import java.util.UUID;
+import java.util.List;
+import java.util.concurrent.Executor;
 
-public class RegisterUserUseCase {
+public interface RegisterUserUseCase {
 
-    private final UserRepositoryPort userRepository;
-    private final PasswordEncoderPort passwordEncoder;
+    /**
+     * @throws com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException if the email is taken
+     */
+    User register(RegisterUserCommand command);
 
-    public RegisterUserUseCase(UserRepositoryPort userRepository,
-                               PasswordEncoderPort passwordEncoder) {
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
-    }
-
-    public User register(RegisterUserCommand command) {
-        if (userRepository.existsByEmail(command.email())) {
-            throw new UserAlreadyExistsException(command.email());
-        }
-
-        String id = UUID.randomUUID().toString();
-        String passwordHash = passwordEncoder.encode(command.rawPassword());
+    /**
+     * Registers a batch with one repository write. Passwords are hashed concurrently on
+     * {@code hashingExecutor}, which bounds how much CPU the batch may take.
+     */
+    List<RegistrationOutcome> registerAll(List<RegisterUserCommand> commands, Executor hashingExecutor);
 
-        User user = new User(
-                id,
-                command.name(),
-                command.email(),
-                passwordHash,
-                Set.of(Role.USER),
-                true
-        );
-
-        return userRepository.save(user);
+    record RegisterUserCommand(String name, String email, String rawPassword) {
     }
 
-    public record RegisterUserCommand(String name, String email, String rawPassword) {
+    /**
+     * @param user the created user, or {@code null} when the email was already taken
+     */
+    record RegistrationOutcome(String email, User user) {
+
+        public boolean created() {
+            return user != null;
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.port.RefreshTokenPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.TokenRevocationPort;
+
+public class RevokeTokenService implements RevokeTokenUseCase {
+
+    private final TokenProviderPort tokenProvider;
+    private final TokenRevocationPort tokenRevocation;
+    private final RefreshTokenPort refreshTokens;
+
+    public RevokeTokenService(TokenProviderPort tokenProvider,
+                              TokenRevocationPort tokenRevocation,
+                              RefreshTokenPort refreshTokens) {
+        this.tokenProvider = tokenProvider;
+        this.tokenRevocation = tokenRevocation;
+        this.refreshTokens = refreshTokens;
+    }
+
+    @Override
+    public TokenClaims revoke(String token) {
+        TokenClaims claims = tokenProvider.parseToken(token);
+        if (!claims.valid()) {
+            throw new InvalidTokenException();
+        }
+        tokenRevocation.revoke(claims.tokenId(), claims.expiresAtEpochSeconds());
+        refreshTokens.revokeAll(claims.subject());
+        return claims;
+    }
+}
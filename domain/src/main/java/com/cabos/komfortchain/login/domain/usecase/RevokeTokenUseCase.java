@@ -0,0 +1,12 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+
+public interface RevokeTokenUseCase {
+
+    /**
+     * Revokes a still-valid token until it expires, together with every refresh token of its
+     * subject, which ends all of the user's sessions; expired or forged tokens are rejected.
+     */
+    TokenClaims revoke(String token);
+}
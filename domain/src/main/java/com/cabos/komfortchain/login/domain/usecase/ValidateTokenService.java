@@ -0,0 +1,28 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+
+public class ValidateTokenService implements ValidateTokenUseCase {
+
+    private final TokenProviderPort tokenProvider;
+
+    public ValidateTokenService(TokenProviderPort tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    public String validate(String token) {
+        return validateClaims(token).subject();
+    }
+
+    @Override
+    public TokenClaims validateClaims(String token) {
+        TokenClaims claims = tokenProvider.parseToken(token);
+        if (!claims.valid()) {
+            throw new InvalidTokenException();
+        }
+        return claims;
+    }
+}
@@ -1,20 +1,13 @@
 package com.cabos.komfortchain.login.domain.usecase;
 
-import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
-import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
 
-public class ValidateTokenUseCase {
+public interface ValidateTokenUseCase {
 
-    private final TokenProviderPort tokenProvider;
+    String validate(String token);
 
-    public ValidateTokenUseCase(TokenProviderPort tokenProvider) {
-        this.tokenProvider = tokenProvider;
-    }
-
-    public String validate(String token) {
-        if (!tokenProvider.validateToken(token)) {
-            throw new InvalidTokenException();
-        }
-        return tokenProvider.getSubject(token);
-    }
+    /**
+     * @throws com.cabos.komfortchain.login.domain.exception.InvalidTokenException if the token is forged or expired
+     */
+    TokenClaims validateClaims(String token);
 }
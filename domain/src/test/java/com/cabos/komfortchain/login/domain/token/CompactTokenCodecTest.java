@@ -0,0 +1,165 @@
+package com.cabos.komfortchain.login.domain.token;
+
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactTokenCodecTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final String SUBJECT = "3f1c2d4e-5a6b-7c8d-9e0f-112233445566";
+    private static final long NOW = 1_700_000_000L;
+    private static final long EXPIRES_AT = NOW + 900;
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final CompactTokenCodec codec = new CompactTokenCodec(SECRET);
+
+    @Test
+    void decodesWhatItIssued() {
+        IssuedToken issued = codec.issue(SUBJECT, EXPIRES_AT, Set.of(Role.USER, Role.ADMIN));
+
+        TokenClaims claims = codec.decode(issued.token(), NOW);
+
+        assertTrue(claims.valid());
+        assertEquals(SUBJECT, claims.subject());
+        assertEquals(EXPIRES_AT, claims.expiresAtEpochSeconds());
+        assertEquals(Set.of(Role.USER, Role.ADMIN), claims.roles());
+        assertEquals(issued.claims().tokenId(), claims.tokenId());
+        assertEquals(claims, codec.decode(ascii(issued.token()), NOW));
+    }
+
+    @Test
+    void issuesDistinctTokenIdsForDistinctTokens() {
+        long first = codec.issue(SUBJECT, EXPIRES_AT, Set.of(Role.USER)).claims().tokenId();
+        long second = codec.issue(SUBJECT, EXPIRES_AT + 1, Set.of(Role.USER)).claims().tokenId();
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void acceptsTokenUntilItsExpiryThenRejectsIt() {
+        String token = codec.encode(SUBJECT, EXPIRES_AT, Set.of(Role.USER));
+
+        assertTrue(codec.verify(token, EXPIRES_AT));
+        assertFalse(codec.verify(token, EXPIRES_AT + 1));
+        assertFalse(codec.verify(ascii(token), EXPIRES_AT + 1));
+        assertFalse(codec.decode(token, EXPIRES_AT + 1).valid());
+    }
+
+    @Test
+    void rejectsAnyAlteredCharacter() {
+        String token = codec.encode(SUBJECT, EXPIRES_AT, Set.of(Role.USER));
+
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) == '.') {
+                continue;
+            }
+            char replacement = token.charAt(i) == 'A' ? 'B' : 'A';
+            String tampered = token.substring(0, i) + replacement + token.substring(i + 1);
+            assertFalse(codec.verify(tampered, NOW), "accepted tampering at index " + i);
+            assertFalse(codec.verify(ascii(tampered), NOW), "accepted tampering at index " + i);
+        }
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        CompactTokenCodec other = new CompactTokenCodec("another-secret-another-secret-00".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(codec.verify(other.encode(SUBJECT, EXPIRES_AT, Set.of(Role.ADMIN)), NOW));
+    }
+
+    @Test
+    void rejectsPayloadsWithForeignClaimsEvenWhenSigned() {
+        assertFalse(codec.verify(sign(payload((byte) 2, EXPIRES_AT, (byte) 1)), NOW), "unknown version");
+        assertFalse(codec.verify(sign(payload((byte) 1, EXPIRES_AT, (byte) 0x40)), NOW), "unknown role mask");
+        assertTrue(codec.verify(sign(payload((byte) 1, EXPIRES_AT, (byte) 1)), NOW));
+    }
+
+    @Test
+    void rejectsNonCanonicalBase64() {
+        String token = codec.encode(SUBJECT, EXPIRES_AT, Set.of(Role.USER));
+        String payload = token.substring(0, token.indexOf('.'));
+        String signature = token.substring(token.indexOf('.') + 1);
+
+        // 32 signature bytes leave two unused bits in the last character; setting them keeps the bytes.
+        char last = signature.charAt(signature.length() - 1);
+        char withTrailingBits = ALPHABET.charAt(ALPHABET.indexOf(last) | 1);
+        String nonCanonical = payload + '.' + signature.substring(0, signature.length() - 1) + withTrailingBits;
+
+        assertFalse(codec.verify(nonCanonical, NOW));
+        assertFalse(codec.verify(token + "=", NOW));
+        assertFalse(codec.verify(token + "A", NOW));
+        assertFalse(codec.verify(payload + '.' + payload, NOW));
+        assertFalse(codec.verify(payload, NOW));
+        assertFalse(codec.verify("", NOW));
+    }
+
+    @Test
+    void rejectsOversizedSubject() {
+        String subject = "x".repeat(CompactTokenCodec.MAX_SUBJECT_BYTES + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(subject, EXPIRES_AT, Set.of(Role.USER)));
+    }
+
+    @Test
+    void verifiesConcurrentlyOnVirtualThreads() throws Exception {
+        String token = codec.encode(SUBJECT, EXPIRES_AT, Set.of(Role.USER));
+        String admin = codec.encode(SUBJECT, EXPIRES_AT, Set.of(Role.ADMIN));
+        String tampered = admin.substring(0, admin.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                boolean valid = i % 2 == 0;
+                results.add(executor.submit(() -> codec.verify(valid ? token : tampered, NOW) == valid));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        }
+    }
+
+    private static byte[] payload(byte version, long expiresAt, byte roleMask) {
+        byte[] subject = SUBJECT.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Long.BYTES + 1 + subject.length)
+                .put(version)
+                .putLong(expiresAt)
+                .put(roleMask)
+                .put(subject)
+                .array();
+    }
+
+    private static String sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+            return ENCODER.encodeToString(payload) + '.' + ENCODER.encodeToString(mac.doFinal(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteBuffer ascii(String token) {
+        return ByteBuffer.wrap(token.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,98 @@
+package com.cabos.komfortchain.login.domain.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationListTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    @Test
+    void containsEveryRevokedIdAcrossRebuilds() {
+        RevocationList list = new RevocationList(64, 0.01);
+        long[] ids = new SplittableRandom(42).longs(50_000).toArray();
+
+        for (long id : ids) {
+            list.add(id, NOW + 900);
+        }
+
+        for (long id : ids) {
+            assertTrue(list.contains(id), "false negative for " + id);
+        }
+        assertEquals(ids.length, list.size());
+    }
+
+    @Test
+    void neverReportsIdsThatWereNotRevoked() {
+        RevocationList list = new RevocationList(1_000, 0.5);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 1_000; i++) {
+            list.add(random.nextLong(), NOW + 900);
+        }
+
+        SplittableRandom others = new SplittableRandom(8);
+        for (int i = 0; i < 100_000; i++) {
+            assertFalse(list.contains(others.nextLong()));
+        }
+    }
+
+    @Test
+    void purgeDropsOnlyExpiredIds() {
+        RevocationList list = new RevocationList(16, 0.01);
+        list.add(1L, NOW - 1);
+        list.add(2L, NOW);
+        list.add(3L, NOW + 900);
+
+        list.purgeExpired(NOW);
+
+        assertFalse(list.contains(1L));
+        assertTrue(list.contains(2L));
+        assertTrue(list.contains(3L));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void keepsTheLatestExpiryForARepeatedId() {
+        RevocationList list = new RevocationList(16, 0.01);
+        list.add(1L, NOW + 900);
+        list.add(1L, NOW - 1);
+
+        list.purgeExpired(NOW);
+
+        assertTrue(list.contains(1L));
+    }
+
+    @Test
+    void revokedIdIsVisibleAsSoonAsAddReturnsWhileOthersRebuild() throws Exception {
+        RevocationList list = new RevocationList(32, 0.01);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < 8; writer++) {
+                long seed = writer;
+                writers.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 5_000; i++) {
+                        long id = random.nextLong();
+                        list.add(id, NOW + 900);
+                        assertTrue(list.contains(id), "false negative for " + id);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+        assertEquals(40_000, list.size());
+    }
+}
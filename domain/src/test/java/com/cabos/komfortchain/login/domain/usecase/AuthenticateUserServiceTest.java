@@ -0,0 +1,257 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.AccountLockedException;
+import com.cabos.komfortchain.login.domain.exception.InvalidCredentialsException;
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.LoginAttemptPort;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthenticateUserServiceTest {
+
+    private static final String EMAIL = "ana@example.com";
+    private static final String PASSWORD = "correct-horse";
+    private static final UserCredentials USER = new UserCredentials("user-1", "hash:" + PASSWORD, Set.of(Role.USER), true);
+    private static final int CALLERS = 8;
+
+    private final GatedPasswordEncoder passwordEncoder = new GatedPasswordEncoder();
+    private final CountingLoginAttempts loginAttempts = new CountingLoginAttempts();
+    private final List<AuditEvent> auditEvents = new CopyOnWriteArrayList<>();
+    private final AuthenticateUserService service = new AuthenticateUserService(
+            new SingleUserRepository(), passwordEncoder, new StubTokenProvider(), loginAttempts, auditEvents::add);
+
+    @Test
+    void concurrentWrongPasswordsShareOneCheckAndCountAsOneFailure() throws Exception {
+        List<Throwable> failures = runConcurrently("wrong-password");
+
+        assertEquals(1, passwordEncoder.checks.get());
+        assertEquals(1, loginAttempts.failures.get());
+        failures.forEach(failure -> assertInstanceOf(InvalidCredentialsException.class, failure));
+        assertEquals(CALLERS, auditEvents.size());
+        auditEvents.forEach(event -> {
+            assertEquals(AuditEvent.BAD_PASSWORD, event.reason());
+            assertEquals(USER.id(), event.userId());
+        });
+    }
+
+    @Test
+    void concurrentEncoderErrorReachesEveryCaller() throws Exception {
+        passwordEncoder.error = new IllegalStateException("hashing pool saturated");
+
+        List<Throwable> failures = runConcurrently(PASSWORD);
+
+        assertEquals(1, passwordEncoder.checks.get());
+        failures.forEach(failure -> assertSame(passwordEncoder.error, failure));
+        assertEquals(CALLERS, auditEvents.size());
+        auditEvents.forEach(event -> assertEquals(AuditEvent.ERROR, event.reason()));
+    }
+
+    @Test
+    void verifiesAfreshOnceTheSharedCheckHasFinished() throws Exception {
+        runConcurrently("wrong-password");
+
+        assertThrows(InvalidCredentialsException.class, () -> service.authenticate(EMAIL, "wrong-password"));
+
+        assertEquals(2, passwordEncoder.checks.get());
+        assertEquals(2, loginAttempts.failures.get());
+    }
+
+    @Test
+    void lockedAccountIsRejectedBeforeThePasswordCheck() {
+        loginAttempts.lockedForSeconds = 30;
+
+        AccountLockedException e = assertThrows(AccountLockedException.class, () -> service.authenticate(EMAIL, PASSWORD));
+
+        assertEquals(30, e.getRetryAfterSeconds());
+        assertEquals(0, passwordEncoder.checks.get());
+        assertEquals(AuditEvent.LOCKED, auditEvents.get(0).reason());
+    }
+
+    /**
+     * Holds the first caller inside the password check until every other caller is waiting on it.
+     */
+    private List<Throwable> runConcurrently(String rawPassword) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            List<Thread> followers = new CopyOnWriteArrayList<>();
+            Future<?> leader = executor.submit(() -> service.authenticate(EMAIL, rawPassword));
+            assertTrue(passwordEncoder.entered.await(5, TimeUnit.SECONDS));
+
+            List<Future<?>> calls = new ArrayList<>(List.of(leader));
+            for (int i = 1; i < CALLERS; i++) {
+                calls.add(executor.submit(() -> {
+                    followers.add(Thread.currentThread());
+                    return service.authenticate(EMAIL, rawPassword);
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (followers.size() < CALLERS - 1
+                    || !followers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+                assertTrue(System.nanoTime() < deadline, "followers did not join the shared check");
+                Thread.onSpinWait();
+            }
+            passwordEncoder.gate.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> call : calls) {
+                failures.add(assertThrows(ExecutionException.class, call::get).getCause());
+            }
+            return failures;
+        }
+    }
+
+    private static final class GatedPasswordEncoder implements PasswordEncoderPort {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+        final AtomicInteger checks = new AtomicInteger();
+        volatile RuntimeException error;
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            checks.incrementAndGet();
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (error != null) {
+                throw error;
+            }
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        @Override
+        public String encode(String rawPassword) {
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return false;
+        }
+    }
+
+    private static final class CountingLoginAttempts implements LoginAttemptPort {
+
+        final AtomicInteger failures = new AtomicInteger();
+        volatile long lockedForSeconds;
+
+        @Override
+        public long lockedForSeconds(String email) {
+            return lockedForSeconds;
+        }
+
+        @Override
+        public void recordFailure(String email) {
+            failures.incrementAndGet();
+        }
+
+        @Override
+        public void recordSuccess(String email) {
+        }
+    }
+
+    private static final class SingleUserRepository implements UserRepositoryPort {
+
+        @Override
+        public Optional<UserCredentials> findCredentialsByEmail(String email) {
+            return EMAIL.equals(email) ? Optional.of(USER) : Optional.empty();
+        }
+
+        @Override
+        public Optional<UserCredentials> findCredentialsById(String id) {
+            return USER.id().equals(id) ? Optional.of(USER) : Optional.empty();
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User save(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User insert(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> insertAll(List<User> users) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updatePasswordHash(String id, String passwordHash) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StubTokenProvider implements TokenProviderPort {
+
+        @Override
+        public IssuedToken issueToken(String subject, Set<Role> roles) {
+            return new IssuedToken("token-" + subject, new TokenClaims(subject, 0L, roles, true, 1L));
+        }
+
+        @Override
+        public String generateToken(String subject, Set<Role> roles) {
+            return issueToken(subject, roles).token();
+        }
+
+        @Override
+        public TokenClaims parseToken(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean validateToken(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getSubject(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getExpiration(String token) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
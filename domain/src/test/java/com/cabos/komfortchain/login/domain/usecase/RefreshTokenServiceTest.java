@@ -0,0 +1,236 @@
+package com.cabos.komfortchain.login.domain.usecase;
+
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.RefreshTokenGrant;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.RefreshTokenPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.TokenRevocationPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.cabos.komfortchain.login.domain.usecase.RefreshTokenUseCase.IssuedRefreshToken;
+import com.cabos.komfortchain.login.domain.usecase.RefreshTokenUseCase.RefreshResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshTokenServiceTest {
+
+    private static final long TTL_SECONDS = 3_600;
+    private static final UserCredentials USER = new UserCredentials("user-1", "hash", Set.of(Role.USER), true);
+
+    private final MapRefreshTokens refreshTokens = new MapRefreshTokens();
+    private final SingleUserRepository userRepository = new SingleUserRepository();
+    private final StubTokenProvider tokenProvider = new StubTokenProvider();
+    private final RefreshTokenService service =
+            new RefreshTokenService(tokenProvider, refreshTokens, userRepository, TTL_SECONDS);
+
+    @Test
+    void refreshIssuesAnAccessTokenAndRotatesTheRefreshToken() {
+        IssuedRefreshToken issued = service.issue(USER.id());
+
+        RefreshResult result = service.refresh(issued.token());
+
+        assertEquals("token-" + USER.id(), result.accessToken().token());
+        assertNotEquals(issued.token(), result.refreshToken().token());
+        assertEquals(1, refreshTokens.grants.size());
+    }
+
+    @Test
+    void storesOnlyTheHashOfTheToken() {
+        IssuedRefreshToken issued = service.issue(USER.id());
+
+        assertEquals(1, refreshTokens.grants.size());
+        assertFalse(refreshTokens.grants.containsKey(issued.token()));
+    }
+
+    @Test
+    void replayedRefreshTokenIsRejected() {
+        IssuedRefreshToken issued = service.issue(USER.id());
+        RefreshResult rotated = service.refresh(issued.token());
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(issued.token()));
+
+        // The replay does not touch the rotated token.
+        service.refresh(rotated.refreshToken().token());
+    }
+
+    @Test
+    void expiryIsCarriedAcrossRefreshes() {
+        long before = Instant.now().getEpochSecond();
+        IssuedRefreshToken issued = service.issue(USER.id());
+        assertTrue(issued.expiresAtEpochSeconds() >= before + TTL_SECONDS);
+
+        IssuedRefreshToken current = issued;
+        for (int i = 0; i < 3; i++) {
+            current = service.refresh(current.token()).refreshToken();
+            assertEquals(issued.expiresAtEpochSeconds(), current.expiresAtEpochSeconds());
+        }
+    }
+
+    @Test
+    void expiredRefreshTokenIsRejected() {
+        RefreshTokenService expiring = new RefreshTokenService(tokenProvider, refreshTokens, userRepository, -1);
+        IssuedRefreshToken issued = expiring.issue(USER.id());
+
+        assertThrows(InvalidTokenException.class, () -> expiring.refresh(issued.token()));
+        assertTrue(refreshTokens.grants.isEmpty());
+    }
+
+    @Test
+    void deactivatedUserCannotRefresh() {
+        IssuedRefreshToken issued = service.issue(USER.id());
+        userRepository.user = new UserCredentials(USER.id(), USER.passwordHash(), USER.roles(), false);
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(issued.token()));
+    }
+
+    @Test
+    void logoutRevokesEveryRefreshTokenOfTheUser() {
+        IssuedRefreshToken first = service.issue(USER.id());
+        IssuedRefreshToken second = service.issue(USER.id());
+        service.issue("user-2");
+        RevokeTokenService revokeTokenService =
+                new RevokeTokenService(tokenProvider, new NoopTokenRevocation(), refreshTokens);
+
+        revokeTokenService.revoke("token-" + USER.id());
+
+        assertThrows(InvalidTokenException.class, () -> service.refresh(first.token()));
+        assertThrows(InvalidTokenException.class, () -> service.refresh(second.token()));
+        assertEquals(1, refreshTokens.grants.size());
+        assertTrue(refreshTokens.grants.values().stream().allMatch(grant -> grant.userId().equals("user-2")));
+    }
+
+    private static final class MapRefreshTokens implements RefreshTokenPort {
+
+        final Map<String, RefreshTokenGrant> grants = new ConcurrentHashMap<>();
+
+        @Override
+        public void store(String tokenHash, RefreshTokenGrant grant) {
+            grants.put(tokenHash, grant);
+        }
+
+        @Override
+        public Optional<RefreshTokenGrant> consume(String tokenHash) {
+            return Optional.ofNullable(grants.remove(tokenHash));
+        }
+
+        @Override
+        public void revokeAll(String userId) {
+            grants.values().removeIf(grant -> grant.userId().equals(userId));
+        }
+    }
+
+    private static final class NoopTokenRevocation implements TokenRevocationPort {
+
+        @Override
+        public void revoke(long tokenId, long expiresAtEpochSeconds) {
+        }
+
+        @Override
+        public boolean isRevoked(long tokenId) {
+            return false;
+        }
+    }
+
+    private static final class SingleUserRepository implements UserRepositoryPort {
+
+        volatile UserCredentials user = USER;
+
+        @Override
+        public Optional<UserCredentials> findCredentialsById(String id) {
+            return user.id().equals(id) ? Optional.of(user) : Optional.empty();
+        }
+
+        @Override
+        public Optional<UserCredentials> findCredentialsByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User save(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User insert(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> insertAll(List<User> users) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updatePasswordHash(String id, String passwordHash) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StubTokenProvider implements TokenProviderPort {
+
+        @Override
+        public IssuedToken issueToken(String subject, Set<Role> roles) {
+            return new IssuedToken("token-" + subject, claims(subject, roles));
+        }
+
+        @Override
+        public String generateToken(String subject, Set<Role> roles) {
+            return issueToken(subject, roles).token();
+        }
+
+        /**
+         * Reverses {@link #issueToken}: {@code token-<subject>}.
+         */
+        @Override
+        public TokenClaims parseToken(String token) {
+            return token.startsWith("token-")
+                    ? claims(token.substring("token-".length()), Set.of(Role.USER))
+                    : TokenClaims.invalid();
+        }
+
+        @Override
+        public boolean validateToken(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getSubject(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getExpiration(String token) {
+            throw new UnsupportedOperationException();
+        }
+
+        private static TokenClaims claims(String subject, Set<Role> roles) {
+            return new TokenClaims(subject, Instant.now().getEpochSecond() + 60, roles, true, subject.hashCode());
+        }
+    }
+}
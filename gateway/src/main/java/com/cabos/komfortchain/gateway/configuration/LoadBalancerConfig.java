@@ -0,0 +1,10 @@
+package com.cabos.komfortchain.gateway.configuration;
+
+import com.cabos.komfortchain.gateway.loadbalancer.LoginServiceLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClient(name = "login-service", configuration = LoginServiceLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,107 @@
+package com.cabos.komfortchain.gateway.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "login-balancer")
+public class LoginBalancerProperties {
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING,
+        EWMA
+    }
+
+    private List<URI> instances = new ArrayList<>(List.of(URI.create("http://login-service:8081")));
+
+    private Strategy strategy = Strategy.EWMA;
+
+    /**
+     * Time constant of the latency moving average used by {@link Strategy#EWMA}.
+     */
+    private Duration ewmaDecay = Duration.ofSeconds(10);
+
+    /**
+     * Latency recorded for a failed or {@code 5xx} exchange when it completed faster, so an instance
+     * shedding load with quick {@code 503}s does not look like the fastest one.
+     */
+    private Duration errorPenalty = Duration.ofSeconds(1);
+
+    private double errorRateThreshold = 0.5;
+
+    private int minimumRequests = 20;
+
+    private Duration errorWindow = Duration.ofSeconds(10);
+
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+    public List<URI> getInstances() {
+        return instances;
+    }
+
+    public void setInstances(List<URI> instances) {
+        this.instances = instances;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public Duration getEwmaDecay() {
+        return ewmaDecay;
+    }
+
+    public void setEwmaDecay(Duration ewmaDecay) {
+        this.ewmaDecay = ewmaDecay;
+    }
+
+    public Duration getErrorPenalty() {
+        return errorPenalty;
+    }
+
+    public void setErrorPenalty(Duration errorPenalty) {
+        this.errorPenalty = errorPenalty;
+    }
+
+    public double getErrorRateThreshold() {
+        return errorRateThreshold;
+    }
+
+    public void setErrorRateThreshold(double errorRateThreshold) {
+        this.errorRateThreshold = errorRateThreshold;
+    }
+
+    public int getMinimumRequests() {
+        return minimumRequests;
+    }
+
+    public void setMinimumRequests(int minimumRequests) {
+        this.minimumRequests = minimumRequests;
+    }
+
+    public Duration getErrorWindow() {
+        return errorWindow;
+    }
+
+    public void setErrorWindow(Duration errorWindow) {
+        this.errorWindow = errorWindow;
+    }
+
+    public Duration getEjectionDuration() {
+        return ejectionDuration;
+    }
+
+    public void setEjectionDuration(Duration ejectionDuration) {
+        this.ejectionDuration = ejectionDuration;
+    }
+}
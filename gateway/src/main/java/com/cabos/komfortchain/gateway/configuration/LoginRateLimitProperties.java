@@ -0,0 +1,100 @@
+package com.cabos.komfortchain.gateway.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "login-rate-limit")
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+
+    private int ipBurst = 20;
+
+    private double ipRatePerSecond = 5.0;
+
+    private int emailBurst = 5;
+
+    private double emailRatePerSecond = 0.2;
+
+    /**
+     * Number of trusted proxies in front of the gateway; {@code 0} keys on the socket address
+     * and ignores {@code X-Forwarded-For}.
+     */
+    private int trustedProxies = 0;
+
+    private Duration cleanupInterval = Duration.ofSeconds(30);
+
+    /**
+     * Largest body buffered to find the e-mail; a larger {@code Content-Length} is rejected with
+     * {@code 413}, and a body without one is limited by IP only.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(4);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIpBurst() {
+        return ipBurst;
+    }
+
+    public void setIpBurst(int ipBurst) {
+        this.ipBurst = ipBurst;
+    }
+
+    public double getIpRatePerSecond() {
+        return ipRatePerSecond;
+    }
+
+    public void setIpRatePerSecond(double ipRatePerSecond) {
+        this.ipRatePerSecond = ipRatePerSecond;
+    }
+
+    public int getEmailBurst() {
+        return emailBurst;
+    }
+
+    public void setEmailBurst(int emailBurst) {
+        this.emailBurst = emailBurst;
+    }
+
+    public double getEmailRatePerSecond() {
+        return emailRatePerSecond;
+    }
+
+    public void setEmailRatePerSecond(double emailRatePerSecond) {
+        this.emailRatePerSecond = emailRatePerSecond;
+    }
+
+    public int getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(int trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public DataSize getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cabos.komfortchain.gateway.configuration;
+
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import com.cabos.komfortchain.login.shared.revocation.RevokedTokenSync;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RevocationProperties.class)
+public class RevocationConfig {
+
+    /**
+     * Polls from startup; until the first poll succeeds no token is trusted.
+     */
+    @Bean
+    public RevokedTokenSync revokedTokenSync(ReactiveMongoTemplate mongoTemplate,
+                                             RevocationProperties properties,
+                                             MeterRegistry meterRegistry) {
+        RevokedTokenSync sync = new RevokedTokenSync(mongoTemplate, properties);
+        sync.start();
+        Gauge.builder("gateway.revocation.size", sync, RevokedTokenSync::size).register(meterRegistry);
+        Gauge.builder("gateway.revocation.staleness", sync, RevokedTokenSync::stalenessSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return sync;
+    }
+}
@@ -0,0 +1,176 @@
+package com.cabos.komfortchain.gateway.filter;
+
+import com.cabos.komfortchain.gateway.configuration.LoginRateLimitProperties;
+import com.cabos.komfortchain.gateway.ratelimit.TokenBucketLimiter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory rate limit for the login routes, applied before anything reaches login-service.
+ * Requests are limited per client IP and, with {@code key-by-email}, also per e-mail found in the
+ * JSON body, so a single account cannot be brute-forced from many addresses. Only bodies up to
+ * {@code max-body-size} are buffered for that lookup.
+ */
+@Component
+public class LoginRateLimiterGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<LoginRateLimiterGatewayFilterFactory.Config>
+        implements AutoCloseable {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final LoginRateLimitProperties properties;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+    private final RemoteAddressResolver addressResolver;
+    private final ScheduledExecutorService cleaner;
+    private final long maxBodyBytes;
+
+    public LoginRateLimiterGatewayFilterFactory(LoginRateLimitProperties properties) {
+        super(Config.class);
+        this.properties = properties;
+        this.ipLimiter = new TokenBucketLimiter(properties.getIpBurst(), properties.getIpRatePerSecond());
+        this.emailLimiter = new TokenBucketLimiter(properties.getEmailBurst(), properties.getEmailRatePerSecond());
+        this.addressResolver = properties.getTrustedProxies() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.getTrustedProxies())
+                : new RemoteAddressResolver() { };
+        this.maxBodyBytes = properties.getMaxBodySize().toBytes();
+
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-rate-limit-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getCleanupInterval().toMillis();
+        this.cleaner.scheduleWithFixedDelay(() -> {
+            long now = System.nanoTime();
+            ipLimiter.evictIdle(now);
+            emailLimiter.evictIdle(now);
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("keyByEmail");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        GatewayFilter filter = (exchange, chain) -> {
+            if (!properties.isEnabled()) {
+                return chain.filter(exchange);
+            }
+
+            long wait = ipLimiter.tryAcquire(clientAddress(exchange), System.nanoTime());
+            if (wait > 0) {
+                return reject(exchange, wait);
+            }
+            if (!config.isKeyByEmail()) {
+                return chain.filter(exchange);
+            }
+            // Only a body of known, small size is buffered; a chunked one goes through limited by IP only.
+            long contentLength = exchange.getRequest().getHeaders().getContentLength();
+            if (contentLength > maxBodyBytes) {
+                exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                return exchange.getResponse().setComplete();
+            }
+            if (contentLength < 0) {
+                return chain.filter(exchange);
+            }
+
+            return ServerWebExchangeUtils.cacheRequestBodyAndRequest(exchange, request -> {
+                ServerWebExchange cached = exchange.mutate().request(request).build();
+                String email = readEmail(exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR));
+                if (email != null) {
+                    long emailWait = emailLimiter.tryAcquire(email, System.nanoTime());
+                    if (emailWait > 0) {
+                        return reject(cached, emailWait);
+                    }
+                }
+                return chain.filter(cached);
+            });
+        };
+        // Runs ahead of the other route filters so a rejected request does no further work.
+        return new OrderedGatewayFilter(filter, Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public void close() {
+        cleaner.shutdownNow();
+    }
+
+    private String clientAddress(ServerWebExchange exchange) {
+        InetSocketAddress address = addressResolver.resolve(exchange);
+        if (address == null) {
+            return "unknown";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, long waitNanos) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        return response.setComplete();
+    }
+
+    private static String readEmail(DataBuffer body) {
+        if (body == null) {
+            return null;
+        }
+        String json = body.toString(body.readPosition(), body.readableByteCount(), StandardCharsets.UTF_8);
+        try (JsonParser parser = JSON.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("email".equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText().trim().toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static class Config {
+
+        private boolean keyByEmail;
+
+        public boolean isKeyByEmail() {
+            return keyByEmail;
+        }
+
+        public void setKeyByEmail(boolean keyByEmail) {
+            this.keyByEmail = keyByEmail;
+        }
+    }
+}
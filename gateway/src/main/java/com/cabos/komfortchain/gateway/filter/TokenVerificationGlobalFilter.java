@@ -0,0 +1,141 @@
+package com.cabos.komfortchain.gateway.filter;
+
+import com.cabos.komfortchain.gateway.configuration.EdgeAuthProperties;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.RoleSets;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.token.CompactTokenCodec;
+import com.cabos.komfortchain.login.shared.revocation.RevokedTokenSync;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies bearer tokens at the edge with the shared {@link CompactTokenCodec} and forwards the
+ * verified identity downstream as {@value #SUBJECT_HEADER} / {@value #ROLES_HEADER}.
+ * <p>
+ * Identity headers sent by clients are always stripped, also when {@code edge-auth.enabled} is
+ * off, so downstream services can trust them.
+ * Requests without a valid token are forwarded anonymously and left to the route's own rules.
+ * <p>
+ * Verified claims are cached until the token expires, but every request, cached or not, is checked
+ * against the revocations mirrored by {@link RevokedTokenSync}, so a revoked token loses its identity
+ * here within one {@code revocation.sync-interval}. While that mirror is older than
+ * {@code revocation.max-staleness}, no identity is forwarded at all.
+ */
+@Component
+public class TokenVerificationGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String SUBJECT_HEADER = "X-Auth-Subject";
+    public static final String ROLES_HEADER = "X-Auth-Roles";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final EdgeAuthProperties properties;
+    private final RevokedTokenSync revocations;
+    private final CompactTokenCodec codec;
+    private final Cache<String, TokenClaims> verified;
+    private final String[] rolesHeaderByMask;
+
+    public TokenVerificationGlobalFilter(EdgeAuthProperties properties, RevokedTokenSync revocations) {
+        this.properties = properties;
+        this.revocations = revocations;
+        this.codec = new CompactTokenCodec(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.rolesHeaderByMask = buildRolesHeaders();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        TokenClaims claims = properties.isEnabled()
+                ? verify(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                : TokenClaims.invalid();
+
+        ServerHttpRequest forwarded = request.mutate()
+                .headers(headers -> {
+                    headers.remove(SUBJECT_HEADER);
+                    headers.remove(ROLES_HEADER);
+                    if (claims.valid()) {
+                        headers.set(SUBJECT_HEADER, claims.subject());
+                        headers.set(ROLES_HEADER, rolesHeaderByMask[RoleSets.toMask(claims.roles())]);
+                    }
+                })
+                .build();
+
+        return chain.filter(exchange.mutate().request(forwarded).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    private TokenClaims verify(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return TokenClaims.invalid();
+        }
+        String token = authorization.substring(BEARER_PREFIX.length());
+        long now = Instant.now().getEpochSecond();
+
+        TokenClaims claims = verified.getIfPresent(token);
+        if (claims == null || now > claims.expiresAtEpochSeconds()) {
+            claims = codec.decode(token, now);
+            if (!claims.valid()) {
+                return claims;
+            }
+            verified.put(token, claims);
+        }
+        return isTrusted(claims) ? claims : TokenClaims.invalid();
+    }
+
+    private boolean isTrusted(TokenClaims claims) {
+        return revocations.isCurrent() && !revocations.isRevoked(claims.tokenId());
+    }
+
+    private static String[] buildRolesHeaders() {
+        int combinations = 1 << Role.values().length;
+        String[] headers = new String[combinations];
+        for (int mask = 0; mask < combinations; mask++) {
+            headers[mask] = RoleSets.fromMask(mask).stream()
+                    .map(Enum::name)
+                    .collect(Collectors.joining(","));
+        }
+        return headers;
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String token, TokenClaims claims, long currentTime) {
+            long seconds = Math.max(0L, claims.expiresAtEpochSeconds() - Instant.now().getEpochSecond());
+            return TimeUnit.SECONDS.toNanos(seconds);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
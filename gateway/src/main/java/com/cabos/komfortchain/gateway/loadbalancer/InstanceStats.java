@@ -0,0 +1,92 @@
+package com.cabos.komfortchain.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-instance counters fed by the load balancer lifecycle: in-flight requests, an exponentially
+ * weighted latency average and a tumbling error window that drives passive ejection.
+ */
+final class InstanceStats {
+
+    private final ServiceInstance instance;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final AtomicLong lastSampleNanos = new AtomicLong();
+    private final AtomicInteger windowRequests = new AtomicInteger();
+    private final AtomicInteger windowErrors = new AtomicInteger();
+    private volatile long windowStartNanos;
+    private volatile long ejectedUntilNanos;
+
+    InstanceStats(ServiceInstance instance, long nowNanos) {
+        this.instance = instance;
+        this.windowStartNanos = nowNanos;
+        this.lastSampleNanos.set(nowNanos);
+    }
+
+    ServiceInstance instance() {
+        return instance;
+    }
+
+    int outstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * The average decays while the instance receives no traffic, so an instance that lost the
+     * comparison earlier is eventually probed again instead of being starved on a stale value.
+     */
+    double ewmaNanos(long nowNanos, double decayNanos) {
+        double idle = Math.max(0L, nowNanos - lastSampleNanos.get());
+        return Double.longBitsToDouble(ewmaBits.get()) * Math.exp(-idle / decayNanos);
+    }
+
+    boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * @return {@code true} when this completion pushed the instance over the error threshold
+     */
+    boolean onComplete(long latencyNanos, boolean error, long nowNanos, double decayNanos,
+                       long windowNanos, int minimumRequests, double errorRateThreshold, long ejectionNanos) {
+        outstanding.decrementAndGet();
+        recordLatency(latencyNanos, nowNanos, decayNanos);
+
+        if (nowNanos - windowStartNanos > windowNanos) {
+            windowStartNanos = nowNanos;
+            windowRequests.set(0);
+            windowErrors.set(0);
+        }
+        int requests = windowRequests.incrementAndGet();
+        int errors = error ? windowErrors.incrementAndGet() : windowErrors.get();
+
+        if (requests >= minimumRequests && errors >= requests * errorRateThreshold && !isEjected(nowNanos)) {
+            ejectedUntilNanos = nowNanos + ejectionNanos;
+            windowStartNanos = nowNanos;
+            windowRequests.set(0);
+            windowErrors.set(0);
+            return true;
+        }
+        return false;
+    }
+
+    private void recordLatency(long latencyNanos, long nowNanos, double decayNanos) {
+        long previousSample = lastSampleNanos.getAndSet(nowNanos);
+        double weight = Math.exp(-Math.max(0L, nowNanos - previousSample) / decayNanos);
+        while (true) {
+            long bits = ewmaBits.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = current == 0.0 ? latencyNanos : current * weight + latencyNanos * (1.0 - weight);
+            if (ewmaBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
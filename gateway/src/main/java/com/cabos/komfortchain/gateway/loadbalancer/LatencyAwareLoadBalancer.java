@@ -0,0 +1,202 @@
+package com.cabos.komfortchain.gateway.loadbalancer;
+
+import com.cabos.komfortchain.gateway.configuration.LoginBalancerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.http.HttpStatusCode;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Balances a static list of instances without a service registry.
+ * <p>
+ * It is also the lifecycle listener for its own choices: every completed exchange updates the
+ * instance's in-flight count, latency average and error window. Errors count at least
+ * {@code error-penalty} in the average, however fast they failed. Instances whose error rate crosses
+ * the threshold are left out of the rotation for a while, unless that would leave no instance at all.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyAwareLoadBalancer.class);
+
+    private static final String START_ATTRIBUTE = LatencyAwareLoadBalancer.class.getName() + ".start";
+
+    private final String serviceId;
+    private final LoginBalancerProperties properties;
+    private final List<InstanceStats> instances;
+    private final Map<String, InstanceStats> byInstanceId;
+    private final AtomicInteger position = new AtomicInteger();
+    private final double decayNanos;
+    private final long errorPenaltyNanos;
+    private final long windowNanos;
+    private final long ejectionNanos;
+
+    public LatencyAwareLoadBalancer(String serviceId, LoginBalancerProperties properties) {
+        this.serviceId = serviceId;
+        this.properties = properties;
+        this.decayNanos = properties.getEwmaDecay().toNanos();
+        this.errorPenaltyNanos = properties.getErrorPenalty().toNanos();
+        this.windowNanos = properties.getErrorWindow().toNanos();
+        this.ejectionNanos = properties.getEjectionDuration().toNanos();
+
+        long now = System.nanoTime();
+        List<InstanceStats> stats = new ArrayList<>();
+        Map<String, InstanceStats> index = new HashMap<>();
+        for (URI uri : properties.getInstances()) {
+            ServiceInstance instance = toInstance(serviceId, uri);
+            InstanceStats instanceStats = new InstanceStats(instance, now);
+            stats.add(instanceStats);
+            index.put(instance.getInstanceId(), instanceStats);
+        }
+        if (stats.isEmpty()) {
+            throw new IllegalStateException("login-balancer.instances must list at least one instance");
+        }
+        this.instances = List.copyOf(stats);
+        this.byInstanceId = Map.copyOf(index);
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        InstanceStats chosen = pick(System.nanoTime());
+        return Mono.just(chosen != null ? new DefaultResponse(chosen.instance()) : new EmptyResponse());
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        InstanceStats stats = statsOf(lbResponse);
+        if (stats == null) {
+            return;
+        }
+        stats.onStart();
+        request.getContext().getClientRequest().getAttributes().put(START_ATTRIBUTE, System.nanoTime());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion) {
+        InstanceStats stats = statsOf(completion.getLoadBalancerResponse());
+        if (stats == null || completion.getLoadBalancerRequest() == null) {
+            return;
+        }
+        Object start = completion.getLoadBalancerRequest().getContext().getClientRequest().getAttributes()
+                .remove(START_ATTRIBUTE);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        boolean error = isError(completion);
+        long latency = error ? Math.max(now - startNanos, errorPenaltyNanos) : now - startNanos;
+        boolean ejected = stats.onComplete(latency, error, now, decayNanos, windowNanos,
+                properties.getMinimumRequests(), properties.getErrorRateThreshold(), ejectionNanos);
+        if (ejected) {
+            log.warn("Ejecting {} from {} for {} after exceeding the error rate threshold",
+                    stats.instance().getUri(), serviceId, properties.getEjectionDuration());
+        }
+    }
+
+    private InstanceStats pick(long now) {
+        List<InstanceStats> candidates = new ArrayList<>(instances.size());
+        for (InstanceStats stats : instances) {
+            if (!stats.isEjected(now)) {
+                candidates.add(stats);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        return switch (properties.getStrategy()) {
+            case ROUND_ROBIN -> candidates.get(Math.floorMod(position.getAndIncrement(), candidates.size()));
+            case LEAST_OUTSTANDING -> leastOutstanding(candidates);
+            case EWMA -> powerOfTwoChoices(candidates, now);
+        };
+    }
+
+    private static InstanceStats leastOutstanding(List<InstanceStats> candidates) {
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        InstanceStats best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            InstanceStats stats = candidates.get((offset + i) % candidates.size());
+            if (best == null || stats.outstanding() < best.outstanding()) {
+                best = stats;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Samples two instances and keeps the one with the lower expected wait, estimated as the
+     * latency average scaled by the work already queued on it.
+     */
+    private InstanceStats powerOfTwoChoices(List<InstanceStats> candidates, long now) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        InstanceStats a = candidates.get(first);
+        InstanceStats b = candidates.get(second);
+        return cost(a, now) <= cost(b, now) ? a : b;
+    }
+
+    private double cost(InstanceStats stats, long now) {
+        return stats.ewmaNanos(now, decayNanos) * (stats.outstanding() + 1);
+    }
+
+    private static boolean isError(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion) {
+        if (completion.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        ResponseData response = completion.getClientResponse();
+        HttpStatusCode status = response != null ? response.getHttpStatus() : null;
+        return status != null && status.is5xxServerError();
+    }
+
+    private InstanceStats statsOf(Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return null;
+        }
+        return byInstanceId.get(lbResponse.getServer().getInstanceId());
+    }
+
+    private static ServiceInstance toInstance(String serviceId, URI uri) {
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        String instanceId = uri.getHost() + ":" + port;
+        return new DefaultServiceInstance(instanceId, serviceId, uri.getHost(), port, secure);
+    }
+}
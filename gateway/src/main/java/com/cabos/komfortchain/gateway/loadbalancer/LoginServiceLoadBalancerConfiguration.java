@@ -0,0 +1,20 @@
+package com.cabos.komfortchain.gateway.loadbalancer;
+
+import com.cabos.komfortchain.gateway.configuration.LoginBalancerProperties;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Load balancer child-context configuration for {@code lb://login-service}. Deliberately not a
+ * {@code @Configuration}, so component scanning does not pick it up for every client.
+ */
+public class LoginServiceLoadBalancerConfiguration {
+
+    @Bean
+    public LatencyAwareLoadBalancer latencyAwareLoadBalancer(Environment environment,
+                                                             LoginBalancerProperties properties) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(serviceId, properties);
+    }
+}
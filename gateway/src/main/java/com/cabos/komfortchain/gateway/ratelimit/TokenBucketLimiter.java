@@ -0,0 +1,62 @@
+package com.cabos.komfortchain.gateway.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket expressed as GCRA: each key holds only its theoretical arrival time in an
+ * {@link AtomicLong}, so a decision is one CAS loop with no lock and no timer. The map's
+ * per-bin locking is only touched the first time a key is seen.
+ * <p>
+ * A key whose arrival time is in the past has a full bucket and carries no state worth keeping,
+ * which is what {@link #evictIdle} removes.
+ */
+public class TokenBucketLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketLimiter(int burst, double ratePerSecond) {
+        if (burst < 1 || ratePerSecond <= 0) {
+            throw new IllegalArgumentException("burst must be >= 1 and rate must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return {@code 0} when allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    public void evictIdle(long nowNanos) {
+        buckets.forEach((key, bucket) -> {
+            if (bucket.get() - nowNanos <= 0) {
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
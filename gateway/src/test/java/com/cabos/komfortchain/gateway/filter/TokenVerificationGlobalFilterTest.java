@@ -0,0 +1,163 @@
+package com.cabos.komfortchain.gateway.filter;
+
+import com.cabos.komfortchain.gateway.configuration.EdgeAuthProperties;
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.token.CompactTokenCodec;
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import com.cabos.komfortchain.login.shared.revocation.RevokedTokenSync;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TokenVerificationGlobalFilterTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final EdgeAuthProperties properties = properties();
+    private final StubRevocations revocations = new StubRevocations();
+    private final TokenVerificationGlobalFilter filter = new TokenVerificationGlobalFilter(properties, revocations);
+    private final CompactTokenCodec codec = new CompactTokenCodec(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void forwardsTheIdentityOfAValidToken() {
+        IssuedToken token = issue("user-1", Set.of(Role.USER, Role.ADMIN));
+
+        HttpHeaders forwarded = forward(withBearer(token).build());
+
+        assertEquals("user-1", forwarded.getFirst(TokenVerificationGlobalFilter.SUBJECT_HEADER));
+        assertEquals("USER,ADMIN", forwarded.getFirst(TokenVerificationGlobalFilter.ROLES_HEADER));
+    }
+
+    @Test
+    void stripsClientSuppliedIdentityWithoutAToken() {
+        HttpHeaders forwarded = forward(withForgedIdentity(MockServerHttpRequest.get("/api/v1/admin/users")).build());
+
+        assertAnonymous(forwarded);
+    }
+
+    @Test
+    void stripsClientSuppliedIdentityWhenEdgeAuthIsDisabled() {
+        properties.setEnabled(false);
+        IssuedToken token = issue("user-1", Set.of(Role.USER));
+
+        HttpHeaders forwarded = forward(withForgedIdentity(withBearer(token)).build());
+
+        assertAnonymous(forwarded);
+    }
+
+    @Test
+    void replacesClientSuppliedIdentityWithTheTokens() {
+        IssuedToken token = issue("user-1", Set.of(Role.USER));
+
+        HttpHeaders forwarded = forward(withForgedIdentity(withBearer(token)).build());
+
+        assertEquals("user-1", forwarded.getFirst(TokenVerificationGlobalFilter.SUBJECT_HEADER));
+        assertEquals("USER", forwarded.getFirst(TokenVerificationGlobalFilter.ROLES_HEADER));
+        assertEquals(1, forwarded.get(TokenVerificationGlobalFilter.SUBJECT_HEADER).size());
+    }
+
+    @Test
+    void forwardsTamperedTokenAnonymously() {
+        IssuedToken token = issue("user-1", Set.of(Role.USER));
+        String tampered = token.token().substring(0, token.token().length() - 2) + "AA";
+
+        HttpHeaders forwarded = forward(MockServerHttpRequest.get("/api/v1/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered)
+                .build());
+
+        assertAnonymous(forwarded);
+    }
+
+    @Test
+    void revokedTokenLosesItsIdentityEvenOnceCached() {
+        IssuedToken token = issue("user-1", Set.of(Role.USER));
+        forward(withBearer(token).build());
+
+        revocations.revoked.add(token.claims().tokenId());
+        HttpHeaders forwarded = forward(withBearer(token).build());
+
+        assertAnonymous(forwarded);
+    }
+
+    @Test
+    void staleMirrorForwardsNoIdentityUntilItIsCurrentAgain() {
+        IssuedToken token = issue("user-1", Set.of(Role.USER));
+        revocations.current = false;
+
+        assertAnonymous(forward(withBearer(token).build()));
+
+        revocations.current = true;
+        assertEquals("user-1", forward(withBearer(token).build()).getFirst(TokenVerificationGlobalFilter.SUBJECT_HEADER));
+    }
+
+    private HttpHeaders forward(MockServerHttpRequest request) {
+        AtomicReference<ServerHttpRequest> forwarded = new AtomicReference<>();
+        filter.filter(MockServerWebExchange.from(request), exchange -> {
+            forwarded.set(exchange.getRequest());
+            return Mono.empty();
+        }).block();
+        return forwarded.get().getHeaders();
+    }
+
+    private IssuedToken issue(String subject, Set<Role> roles) {
+        return codec.issue(subject, Instant.now().getEpochSecond() + 60, roles);
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> withBearer(IssuedToken token) {
+        return MockServerHttpRequest.get("/api/v1/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token.token());
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> withForgedIdentity(MockServerHttpRequest.BaseBuilder<?> request) {
+        return request
+                .header(TokenVerificationGlobalFilter.SUBJECT_HEADER, "admin-1")
+                .header(TokenVerificationGlobalFilter.ROLES_HEADER, "ADMIN");
+    }
+
+    private static void assertAnonymous(HttpHeaders forwarded) {
+        assertNull(forwarded.getFirst(TokenVerificationGlobalFilter.SUBJECT_HEADER));
+        assertFalse(forwarded.containsKey(TokenVerificationGlobalFilter.ROLES_HEADER));
+    }
+
+    private static EdgeAuthProperties properties() {
+        EdgeAuthProperties properties = new EdgeAuthProperties();
+        properties.setSecret(SECRET);
+        return properties;
+    }
+
+    /**
+     * Mirror whose state the test sets directly; it is never started, so it never reaches Mongo.
+     */
+    private static final class StubRevocations extends RevokedTokenSync {
+
+        final Set<Long> revoked = ConcurrentHashMap.newKeySet();
+        volatile boolean current = true;
+
+        StubRevocations() {
+            super(null, new RevocationProperties());
+        }
+
+        @Override
+        public boolean isRevoked(long tokenId) {
+            return revoked.contains(tokenId);
+        }
+
+        @Override
+        public boolean isCurrent() {
+            return current;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.cabos.komfortchain.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long START = 1_000_000_000_000L;
+
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(3, 10.0);
+
+    @Test
+    void allowsAFullBurstThenReportsTheWaitForTheNextToken() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client", START));
+        }
+
+        assertEquals(INTERVAL, limiter.tryAcquire("client", START));
+        assertEquals(INTERVAL / 2, limiter.tryAcquire("client", START + INTERVAL / 2));
+    }
+
+    @Test
+    void deniedRequestsDoNotConsumeTokens() {
+        exhaust("client", START);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(INTERVAL, limiter.tryAcquire("client", START));
+        }
+
+        assertEquals(0, limiter.tryAcquire("client", START + INTERVAL));
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        exhaust("client", START);
+
+        assertEquals(0, limiter.tryAcquire("client", START + INTERVAL));
+        assertEquals(INTERVAL, limiter.tryAcquire("client", START + INTERVAL));
+
+        assertEquals(0, limiter.tryAcquire("client", START + 3 * INTERVAL));
+        assertEquals(0, limiter.tryAcquire("client", START + 3 * INTERVAL));
+        assertEquals(INTERVAL, limiter.tryAcquire("client", START + 3 * INTERVAL));
+    }
+
+    @Test
+    void idleTimeRefillsNoMoreThanTheBurst() {
+        exhaust("client", START);
+
+        long later = START + TimeUnit.MINUTES.toNanos(10);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client", later));
+        }
+        assertEquals(INTERVAL, limiter.tryAcquire("client", later));
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        exhaust("a", START);
+
+        assertEquals(0, limiter.tryAcquire("b", START));
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveRefilled() {
+        exhaust("busy", START);
+        limiter.tryAcquire("idle", START);
+
+        limiter.evictIdle(START + INTERVAL);
+
+        assertEquals(1, limiter.size());
+        limiter.evictIdle(START + 3 * INTERVAL);
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void concurrentCallersShareOneBurst() throws Exception {
+        TokenBucketLimiter shared = new TokenBucketLimiter(50, 1.0);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 1_000; i++) {
+                        if (shared.tryAcquire("client", START) == 0) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get();
+            }
+            assertEquals(50, allowed);
+        }
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(0, 10.0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(3, 0.0));
+    }
+
+    private void exhaust(String key, long now) {
+        while (limiter.tryAcquire(key, now) == 0) {
+            // drain the burst
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.cabos.komfortchain.login.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the full HTTP path (client → gateway → login-service) with a mix of register, login and
+ * refresh requests, and reports throughput and latency percentiles per operation.
+ * <p>
+ * Two arrival models:
+ * <ul>
+ *     <li>{@code closed}: {@code --concurrency} clients, each sending its next request when the
+ *     previous one completes. Measures capacity; latency hides queueing because clients slow down.</li>
+ *     <li>{@code open}: requests arrive at {@code --rate} per second whether or not earlier ones have
+ *     completed. Latency is measured from the scheduled arrival time, so queueing in the service
+ *     shows up in the percentiles instead of lowering the request rate.</li>
+ * </ul>
+ * <pre>
+ * java -jar loadtest/target/loadtest.jar --target=http://localhost:8080 --model=open --rate=500 \
+ *      --duration=60 --mix=login:80,refresh:15,register:5 --users=1000
+ * </pre>
+ * Setup registers {@code --users} accounts before the warm-up; the gateway rate limiter has to be
+ * off ({@code LOGIN_RATE_LIMIT_ENABLED=false}) or most requests are answered {@code 429}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parse(args);
+        URI target = URI.create(options.getOrDefault("target", "http://localhost:8080"));
+        String model = options.getOrDefault("model", "closed");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+        int users = Integer.parseInt(options.getOrDefault("users", "1000"));
+        Duration timeout = Duration.ofMillis(Long.parseLong(options.getOrDefault("timeout-ms", "10000")));
+        Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", "login:80,refresh:15,register:5"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Workload workload = new Workload(client, target, timeout, mix);
+
+        System.out.printf("target=%s model=%s %s mix=%s users=%d warmup=%ds duration=%ds%n",
+                target, model,
+                "open".equals(model) ? "rate=" + rate + "/s max-in-flight=" + maxInFlight : "concurrency=" + concurrency,
+                mix, users, warmupSeconds, durationSeconds);
+
+        if (setup(workload, users, concurrency) == 0 && workload.needsAccounts()) {
+            System.out.println("setup: no account could be registered; is the target up?");
+            System.exit(1);
+        }
+
+        Phase phase = "open".equals(model)
+                ? (seconds, report) -> runOpen(workload, rate, maxInFlight, seconds, report)
+                : (seconds, report) -> runClosed(workload, concurrency, seconds, report);
+
+        phase.run(warmupSeconds, new Report());
+        Report report = new Report();
+        long start = System.nanoTime();
+        phase.run(durationSeconds, report);
+        report.print((System.nanoTime() - start) / 1e9);
+    }
+
+    private static int setup(Workload workload, int users, int concurrency) {
+        long start = System.nanoTime();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < Math.max(1, concurrency); i++) {
+                executor.execute(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        Workload.Outcome outcome = workload.register();
+                        if (outcome.error() != null && failed.incrementAndGet() == 1) {
+                            System.out.println("setup: register failed with " + outcome.error());
+                        }
+                    }
+                });
+            }
+        }
+        int accounts = workload.freezeAccounts();
+        System.out.printf("setup: registered %d accounts in %.1fs (%d failed)%n",
+                accounts, (System.nanoTime() - start) / 1e9, failed.get());
+        return accounts;
+    }
+
+    private static void runClosed(Workload workload, int concurrency, long seconds, Report report) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        Workload.Outcome outcome = workload.next();
+                        report.record(outcome.operation(), System.nanoTime() - start, outcome.error());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Arrivals follow a fixed schedule. Arrivals that find {@code maxInFlight} requests outstanding
+     * are counted as dropped rather than delayed, which would silently lower the offered rate.
+     */
+    private static void runOpen(Workload workload, double rate, int maxInFlight, long seconds, Report report)
+            throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= deadline) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    report.dropped();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        Workload.Outcome outcome = workload.next();
+                        report.record(outcome.operation(), System.nanoTime() - scheduled, outcome.error());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)),
+                    pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1);
+        }
+        return weights;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    @FunctionalInterface
+    private interface Phase {
+
+        void run(long seconds, Report report) throws InterruptedException;
+    }
+}
@@ -0,0 +1,7 @@
+package com.cabos.komfortchain.login.loadtest;
+
+enum Operation {
+    REGISTER,
+    LOGIN,
+    REFRESH
+}
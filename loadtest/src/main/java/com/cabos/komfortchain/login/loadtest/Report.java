@@ -0,0 +1,82 @@
+package com.cabos.komfortchain.login.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts per {@link Operation} for one measured phase.
+ */
+final class Report {
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    Report() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, String outcome) {
+        Stats s = stats.get(operation);
+        s.latency.record(latencyNanos);
+        if (outcome != null) {
+            s.errors.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void print(double elapsedSeconds) {
+        System.out.printf("%-9s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        LatencyHistogram all = new LatencyHistogram();
+        Map<String, Long> allErrors = new TreeMap<>();
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            if (s.latency.count() == 0) {
+                continue;
+            }
+            all.addAll(s.latency);
+            s.errors.forEach((outcome, count) ->
+                    allErrors.merge(entry.getKey().name().toLowerCase() + ":" + outcome, count.sum(), Long::sum));
+            printRow(entry.getKey().name().toLowerCase(), s.latency, s.errorCount(), elapsedSeconds);
+        }
+        printRow("total", all, allErrors.values().stream().mapToLong(Long::longValue).sum(), elapsedSeconds);
+        if (!allErrors.isEmpty()) {
+            System.out.println("errors: " + allErrors);
+        }
+        if (dropped.sum() > 0) {
+            System.out.printf("dropped: %d arrivals (max-in-flight reached; the target cannot sustain this rate)%n",
+                    dropped.sum());
+        }
+    }
+
+    private static void printRow(String name, LatencyHistogram latency, long errors, double elapsedSeconds) {
+        System.out.printf("%-9s %10d %10.0f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                latency.count(),
+                latency.count() / elapsedSeconds,
+                errors,
+                latency.percentileMillis(0.50),
+                latency.percentileMillis(0.90),
+                latency.percentileMillis(0.99),
+                latency.percentileMillis(0.999),
+                latency.maxMillis());
+    }
+
+    private static final class Stats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
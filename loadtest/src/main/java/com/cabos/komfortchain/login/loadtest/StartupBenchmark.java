@@ -0,0 +1,126 @@
+package com.cabos.komfortchain.login.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time to first successful login: starts {@code --command} through {@code sh -c}, then polls
+ * {@code POST /api/v1/login} until it answers {@code 200}, registering the account on the first
+ * {@code 401}. The clock starts before the process is spawned, so JVM start, context refresh and the
+ * first request's lazy initialisation are all included.
+ * <pre>
+ * java -cp loadtest/target/loadtest.jar com.cabos.komfortchain.login.loadtest.StartupBenchmark \
+ *      --command="java -jar spring/target/springframework-1.0.0-exec.jar" --target=http://localhost:8081 --runs=5
+ * </pre>
+ * Each run kills the process tree before the next one starts. To measure the gateway, keep the
+ * login-service running separately and point {@code --target} at port 8080.
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = parse(args);
+        String command = options.get("command");
+        if (command == null) {
+            System.out.println("usage: --command=<start command> [--target=http://localhost:8081] [--runs=5]"
+                    + " [--timeout=120] [--log=startup.log]");
+            System.exit(2);
+        }
+        URI target = URI.create(options.getOrDefault("target", "http://localhost:8081"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("timeout", "120")));
+        File log = new File(options.getOrDefault("log", "startup.log"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(500))
+                .build();
+        String email = "startup-" + Long.toString(System.currentTimeMillis(), 36) + "@loadtest.local";
+
+        System.out.printf("command=%s target=%s runs=%d%n", command, target, runs);
+        double[] seconds = new double[runs];
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder("sh", "-c", "exec " + command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                    .start();
+            try {
+                awaitFirstLogin(client, target, email, process, start + timeoutNanos);
+                seconds[run] = (System.nanoTime() - start) / 1e9;
+                System.out.printf("run %d: first login after %.3fs%n", run + 1, seconds[run]);
+            } finally {
+                stop(process);
+            }
+        }
+
+        Arrays.sort(seconds);
+        System.out.printf("time to first login: min=%.3fs median=%.3fs max=%.3fs%n",
+                seconds[0], seconds[runs / 2], seconds[runs - 1]);
+    }
+
+    private static void awaitFirstLogin(HttpClient client, URI target, String email, Process process, long deadline)
+            throws InterruptedException {
+        String credentials = "{\"email\":\"" + email + "\",\"password\":\"" + Workload.PASSWORD + "\"}";
+        String registration = "{\"name\":\"Startup\",\"email\":\"" + email + "\",\"password\":\"" + Workload.PASSWORD + "\"}";
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Process exited with status " + process.exitValue() + " before the first login");
+            }
+            int status = post(client, target.resolve("/api/v1/login"), credentials);
+            if (status == 200) {
+                return;
+            }
+            if (status == 401) {
+                post(client, target.resolve("/api/v1/register"), registration);
+                continue;
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful login before the timeout");
+    }
+
+    /**
+     * @return the response status, or {@code -1} while nothing is listening yet
+     */
+    private static int post(HttpClient client, URI uri, String body) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,170 @@
+package com.cabos.komfortchain.login.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The requests of a scenario: a weighted mix of {@link Operation}s against a pool of accounts
+ * registered during setup. When the mix has refreshes, logins ask for a refresh token
+ * ({@code rememberMe}); tokens returned by logins and refreshes are pooled and reused, so
+ * refreshes exercise rotation. A refresh with an empty pool logs in instead.
+ */
+final class Workload {
+
+    static final String PASSWORD = "load-test-password";
+
+    private static final Pattern REFRESH_TOKEN = Pattern.compile("\"refreshToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int MAX_POOLED_REFRESH_TOKENS = 100_000;
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Duration timeout;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final boolean rememberMe;
+    private final AtomicInteger registered = new AtomicInteger();
+    private final AtomicLong pooledRefreshTokens = new AtomicLong();
+    private final Queue<String> refreshTokens = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> registeredAccounts = new ConcurrentLinkedQueue<>();
+    private int[] accounts = new int[0];
+
+    Workload(HttpClient client, URI baseUri, Duration timeout, Map<Operation, Integer> mix) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        Map<Operation, Integer> weights = new EnumMap<>(mix);
+        weights.values().removeIf(weight -> weight <= 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        this.rememberMe = weights.containsKey(Operation.REFRESH);
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    Outcome register() {
+        int n = registered.getAndIncrement();
+        String body = "{\"name\":\"Load " + n + "\",\"email\":\"" + email(n) + "\",\"password\":\"" + PASSWORD + "\"}";
+        Outcome outcome = send(Operation.REGISTER, "/api/v1/register", body, 201);
+        if (outcome.error() == null) {
+            registeredAccounts.offer(n);
+        }
+        return outcome;
+    }
+
+    /**
+     * Accounts registered so far become the login pool.
+     *
+     * @return the size of the pool
+     */
+    int freezeAccounts() {
+        accounts = registeredAccounts.stream().mapToInt(Integer::intValue).toArray();
+        return accounts.length;
+    }
+
+    boolean needsAccounts() {
+        for (Operation operation : operations) {
+            if (operation != Operation.REGISTER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Outcome next() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return execute(operations[i]);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private Outcome execute(Operation operation) {
+        return switch (operation) {
+            case REGISTER -> register();
+            case LOGIN -> login();
+            case REFRESH -> refresh();
+        };
+    }
+
+    private Outcome login() {
+        String email = email(accounts[ThreadLocalRandom.current().nextInt(accounts.length)]);
+        return send(Operation.LOGIN, "/api/v1/login",
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"rememberMe\":" + rememberMe + "}", 200);
+    }
+
+    private Outcome refresh() {
+        String token = refreshTokens.poll();
+        if (token == null) {
+            return login();
+        }
+        pooledRefreshTokens.decrementAndGet();
+        return send(Operation.REFRESH, "/api/v1/refresh", "{\"refreshToken\":\"" + token + "\"}", 200);
+    }
+
+    private Outcome send(Operation operation, String path, String body, int expectedStatus) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != expectedStatus) {
+                return new Outcome(operation, "http " + response.statusCode());
+            }
+            if (operation != Operation.REGISTER) {
+                pool(response.body());
+            }
+            return new Outcome(operation, null);
+        } catch (IOException e) {
+            return new Outcome(operation, e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(operation, "interrupted");
+        }
+    }
+
+    private void pool(String body) {
+        Matcher matcher = REFRESH_TOKEN.matcher(body);
+        if (!matcher.find()) {
+            return;
+        }
+        if (pooledRefreshTokens.incrementAndGet() <= MAX_POOLED_REFRESH_TOKENS) {
+            refreshTokens.offer(matcher.group(1));
+        } else {
+            pooledRefreshTokens.decrementAndGet();
+        }
+    }
+
+    private String email(int n) {
+        return "lt-" + runId + "-" + n + "@load.test";
+    }
+
+    /**
+     * @param error {@code null} on success, otherwise the unexpected status or the exception
+     */
+    record Outcome(Operation operation, String error) {
+    }
+}
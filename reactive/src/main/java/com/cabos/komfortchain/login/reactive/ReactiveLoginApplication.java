@@ -0,0 +1,13 @@
+package com.cabos.komfortchain.login.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+
+@SpringBootApplication(exclude = ReactiveUserDetailsServiceAutoConfiguration.class)
+public class ReactiveLoginApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveLoginApplication.class, args);
+    }
+}
@@ -0,0 +1,51 @@
+package com.cabos.komfortchain.login.reactive.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth-scheduler")
+public class AuthSchedulerProperties {
+
+    private int threadCap = Runtime.getRuntime().availableProcessors();
+
+    private int queuedTaskCap = 256;
+
+    private Duration timeout = Duration.ofSeconds(2);
+
+    private long retryAfterSeconds = 1L;
+
+    public int getThreadCap() {
+        return threadCap;
+    }
+
+    public void setThreadCap(int threadCap) {
+        this.threadCap = threadCap;
+    }
+
+    public int getQueuedTaskCap() {
+        return queuedTaskCap;
+    }
+
+    public void setQueuedTaskCap(int queuedTaskCap) {
+        this.queuedTaskCap = queuedTaskCap;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
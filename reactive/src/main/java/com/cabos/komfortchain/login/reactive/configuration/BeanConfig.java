@@ -0,0 +1,136 @@
+package com.cabos.komfortchain.login.reactive.configuration;
+
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.domain.port.LoginAttemptPort;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserService;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserService;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.ValidateTokenService;
+import com.cabos.komfortchain.login.domain.usecase.ValidateTokenUseCase;
+import com.cabos.komfortchain.login.reactive.persistence.AuditEventAdapter;
+import com.cabos.komfortchain.login.shared.configuration.AuditProperties;
+import com.cabos.komfortchain.login.shared.configuration.JwtProperties;
+import com.cabos.komfortchain.login.shared.configuration.LockoutProperties;
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import com.cabos.komfortchain.login.shared.revocation.RevokedTokenSync;
+import com.cabos.komfortchain.login.shared.security.FailedLoginTracker;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        RevocationProperties.class,
+        LockoutProperties.class,
+        AuditProperties.class
+})
+public class BeanConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public PasswordEncoderPort passwordEncoderPort(PasswordEncoder passwordEncoder) {
+        return new PasswordEncoderPort() {
+            @Override
+            public String encode(String rawPassword) {
+                return passwordEncoder.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String encodedPassword) {
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return passwordEncoder.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    /**
+     * Bounded scheduler the blocking use cases run on: BCrypt and the Mongo waits of a login or a
+     * registration. When its queue is full, work is rejected instead of piling up.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler authScheduler(AuthSchedulerProperties properties) {
+        return Schedulers.newBoundedElastic(
+                properties.getThreadCap(),
+                properties.getQueuedTaskCap(),
+                "auth"
+        );
+    }
+
+    @Bean
+    public TokenProviderPort tokenProviderPort(JwtProperties jwtProperties) {
+        return new JwtTokenProvider(jwtProperties);
+    }
+
+    /**
+     * Polls from startup; until the first poll succeeds no bearer token is trusted.
+     */
+    @Bean
+    public RevokedTokenSync revokedTokenSync(ReactiveMongoTemplate mongoTemplate, RevocationProperties properties) {
+        RevokedTokenSync sync = new RevokedTokenSync(mongoTemplate, properties);
+        sync.start();
+        return sync;
+    }
+
+    @Bean
+    public AuditEventPort auditEventPort(ReactiveMongoTemplate mongoTemplate,
+                                         AuditProperties auditProperties,
+                                         MeterRegistry meterRegistry) {
+        return new AuditEventAdapter(mongoTemplate, auditProperties, meterRegistry);
+    }
+
+    /**
+     * Counters stay in this instance; {@code lockout.store=mongo} is only supported by login-service.
+     */
+    @Bean
+    public LoginAttemptPort loginAttemptPort(LockoutProperties lockoutProperties, MeterRegistry meterRegistry) {
+        if (lockoutProperties.getStore() != LockoutProperties.Store.MEMORY) {
+            throw new IllegalStateException("The reactive edition only supports lockout.store=memory");
+        }
+        FailedLoginTracker tracker = new FailedLoginTracker(lockoutProperties);
+        Gauge.builder("login.lockout.tracked", tracker, FailedLoginTracker::size).register(meterRegistry);
+        return tracker;
+    }
+
+    @Bean
+    public RegisterUserUseCase registerUserUseCase(UserRepositoryPort userRepositoryPort,
+                                                   PasswordEncoderPort passwordEncoderPort,
+                                                   AuditEventPort auditEventPort) {
+        return new RegisterUserService(userRepositoryPort, passwordEncoderPort, auditEventPort);
+    }
+
+    @Bean
+    public AuthenticateUserUseCase authenticateUserUseCase(UserRepositoryPort userRepositoryPort,
+                                                           PasswordEncoderPort passwordEncoderPort,
+                                                           TokenProviderPort tokenProviderPort,
+                                                           LoginAttemptPort loginAttemptPort,
+                                                           AuditEventPort auditEventPort) {
+        return new AuthenticateUserService(
+                userRepositoryPort, passwordEncoderPort, tokenProviderPort, loginAttemptPort, auditEventPort);
+    }
+
+    @Bean
+    public ValidateTokenUseCase validateTokenUseCase(TokenProviderPort tokenProviderPort) {
+        return new ValidateTokenService(tokenProviderPort);
+    }
+}
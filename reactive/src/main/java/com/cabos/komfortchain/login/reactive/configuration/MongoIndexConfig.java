@@ -0,0 +1,56 @@
+package com.cabos.komfortchain.login.reactive.configuration;
+
+import com.cabos.komfortchain.login.reactive.persistence.AuditEventAdapter;
+import com.cabos.komfortchain.login.reactive.persistence.ReactiveUserRepositoryAdapter;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Ensures the same {@code users} and {@code audit_events} indexes as the servlet login-service, so either
+ * edition can run alone.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MongoIndexConfig implements ApplicationRunner {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public MongoIndexConfig(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ReactiveIndexOperations users = mongoTemplate.indexOps(ReactiveUserRepositoryAdapter.COLLECTION);
+        ReactiveIndexOperations auditEvents = mongoTemplate.indexOps(AuditEventAdapter.COLLECTION);
+        Mono.when(
+                users.ensureIndex(new Index()
+                        .on("email", Sort.Direction.ASC)
+                        .unique()
+                        .named("email_unique")),
+                users.ensureIndex(new Index()
+                        .on("email", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC)
+                        .on("passwordHash", Sort.Direction.ASC)
+                        .on("roleMask", Sort.Direction.ASC)
+                        .on("active", Sort.Direction.ASC)
+                        .named(ReactiveUserRepositoryAdapter.CREDENTIALS_INDEX)),
+                auditEvents.ensureIndex(new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("timestamp", Sort.Direction.DESC)
+                        .named("user_id_timestamp")),
+                auditEvents.ensureIndex(new Index()
+                        .on("email", Sort.Direction.ASC)
+                        .on("timestamp", Sort.Direction.DESC)
+                        .named("email_timestamp"))
+        ).block();
+    }
+}
@@ -0,0 +1,38 @@
+package com.cabos.komfortchain.login.reactive.configuration;
+
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.reactive.security.JwtAuthenticationWebFilter;
+import com.cabos.komfortchain.login.shared.revocation.RevokedTokenSync;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         TokenProviderPort tokenProvider,
+                                                         RevokedTokenSync revokedTokens) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers(HttpMethod.POST, "/api/v1/login", "/api/v1/register").permitAll()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(new JwtAuthenticationWebFilter(tokenProvider, revokedTokens), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.cabos.komfortchain.login.reactive.controller;
+
+import com.cabos.komfortchain.login.domain.exception.AccountLockedException;
+import com.cabos.komfortchain.login.domain.exception.InvalidCredentialsException;
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import com.cabos.komfortchain.login.reactive.configuration.AuthSchedulerProperties;
+import com.cabos.komfortchain.login.reactive.dto.*;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the domain use cases, which block on BCrypt and on Mongo, on the bounded {@code authScheduler}
+ * so the event loop never waits. A full scheduler queue or a call that does not finish within
+ * {@code auth-scheduler.timeout} (queue wait included) is answered with {@code 503}.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ReactiveLoginController {
+
+    private final RegisterUserUseCase registerUserUseCase;
+    private final AuthenticateUserUseCase authenticateUserUseCase;
+    private final Scheduler authScheduler;
+    private final AuthSchedulerProperties schedulerProperties;
+
+    public ReactiveLoginController(RegisterUserUseCase registerUserUseCase,
+                                   AuthenticateUserUseCase authenticateUserUseCase,
+                                   Scheduler authScheduler,
+                                   AuthSchedulerProperties schedulerProperties) {
+        this.registerUserUseCase = registerUserUseCase;
+        this.authenticateUserUseCase = authenticateUserUseCase;
+        this.authScheduler = authScheduler;
+        this.schedulerProperties = schedulerProperties;
+    }
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<UserResponseDTO>> register(@Valid @RequestBody RegisterRequestDTO request) {
+        var cmd = new RegisterUserUseCase.RegisterUserCommand(
+                request.name(),
+                request.email(),
+                request.password()
+        );
+        return onAuthScheduler(() -> registerUserUseCase.register(cmd))
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new UserResponseDTO(user.id(), user.name(), user.email())));
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<LoginResponseDTO>> login(@Valid @RequestBody LoginRequestDTO request) {
+        return onAuthScheduler(() -> authenticateUserUseCase.authenticate(request.email(), request.password()))
+                .map(result -> ResponseEntity.ok(new LoginResponseDTO(
+                        result.token(),
+                        "Bearer",
+                        result.expiresAtEpochSeconds()
+                )));
+    }
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<String> handleUserExists(UserAlreadyExistsException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<String> handleInvalidCredentials(InvalidCredentialsException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(AccountLockedException.class)
+    public ResponseEntity<String> handleAccountLocked(AccountLockedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler({RejectedExecutionException.class, TimeoutException.class})
+    public ResponseEntity<String> handleSaturated(Exception ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(schedulerProperties.getRetryAfterSeconds()))
+                .body("Authentication capacity exhausted, retry later");
+    }
+
+    private <T> Mono<T> onAuthScheduler(Callable<T> call) {
+        return Mono.fromCallable(call)
+                .subscribeOn(authScheduler)
+                .timeout(schedulerProperties.getTimeout());
+    }
+}
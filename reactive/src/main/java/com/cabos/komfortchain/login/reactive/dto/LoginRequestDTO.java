@@ -0,0 +1,10 @@
+package com.cabos.komfortchain.login.reactive.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequestDTO(
+        @Email @NotBlank String email,
+        @NotBlank String password
+) {
+}
@@ -0,0 +1,8 @@
+package com.cabos.komfortchain.login.reactive.dto;
+
+public record LoginResponseDTO(
+        String accessToken,
+        String tokenType,
+        long expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.cabos.komfortchain.login.reactive.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public record RegisterRequestDTO(
+        @NotBlank String name,
+        @Email @NotBlank String email,
+        @NotBlank String password
+) {
+}
@@ -0,0 +1,8 @@
+package com.cabos.komfortchain.login.reactive.dto;
+
+public record UserResponseDTO(
+        String id,
+        String name,
+        String email
+) {
+}
@@ -0,0 +1,60 @@
+package com.cabos.komfortchain.login.reactive.persistence;
+
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.shared.audit.AuditEventBuffer;
+import com.cabos.komfortchain.login.shared.configuration.AuditProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes audit events to the same {@code audit_events} collection as the servlet login-service, one
+ * {@code insertMany} per batch, from the {@link AuditEventBuffer}'s writer thread: the request never
+ * waits for Mongo.
+ */
+public class AuditEventAdapter implements AuditEventPort, AutoCloseable {
+
+    public static final String COLLECTION = "audit_events";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final AuditEventBuffer buffer;
+
+    public AuditEventAdapter(ReactiveMongoTemplate mongoTemplate,
+                             AuditProperties auditProperties,
+                             MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.buffer = new AuditEventBuffer("audit-writer", this::insert, auditProperties, meterRegistry);
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        buffer.record(event);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        buffer.close();
+    }
+
+    private void insert(List<AuditEvent> events) {
+        List<Document> documents = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            Document document = new Document("type", event.type().name()).append("success", event.success());
+            // Absent rather than null, as Spring Data writes the servlet edition's entities.
+            if (event.userId() != null) {
+                document.append("userId", event.userId());
+            }
+            document.append("email", event.email());
+            if (event.reason() != null) {
+                document.append("reason", event.reason());
+            }
+            documents.add(document.append("timestamp", new Date(event.timestampEpochMillis())));
+        }
+        mongoTemplate.insert(documents, COLLECTION).then().block();
+    }
+}
@@ -0,0 +1,121 @@
+package com.cabos.komfortchain.login.reactive.persistence;
+
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link UserRepositoryPort} over the reactive driver, with the same queries and {@code users}
+ * layout as the servlet login-service's adapter. Each method waits for its {@link Mono}, so the
+ * domain use cases run unchanged; they are only ever called on the bounded {@code authScheduler},
+ * never on an event-loop thread.
+ */
+@Component
+public class ReactiveUserRepositoryAdapter implements UserRepositoryPort {
+
+    public static final String COLLECTION = "users";
+    public static final String CREDENTIALS_INDEX = "email_credentials";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final UserDocumentMapper mapper;
+
+    public ReactiveUserRepositoryAdapter(ReactiveMongoTemplate mongoTemplate, UserDocumentMapper mapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return mongoTemplate.findOne(byEmail(email), Document.class, COLLECTION)
+                .map(mapper::toDomain)
+                .blockOptional();
+    }
+
+    /**
+     * Reads only the fields a login needs, through the covering index; documents written before
+     * {@code roleMask} existed fall back to a full read.
+     */
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        Query query = byEmail(email).withHint(CREDENTIALS_INDEX);
+        query.fields().include("_id", "passwordHash", "roleMask", "active");
+
+        return mongoTemplate.findOne(query, Document.class, COLLECTION)
+                .flatMap(projection -> projection.get("roleMask") == null
+                        ? mongoTemplate.findOne(byEmail(email), Document.class, COLLECTION)
+                        : Mono.just(projection))
+                .map(mapper::toCredentials)
+                .blockOptional();
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsById(String id) {
+        return mongoTemplate.findById(id, Document.class, COLLECTION)
+                .map(mapper::toCredentials)
+                .blockOptional();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return Boolean.TRUE.equals(mongoTemplate.exists(byEmail(email), COLLECTION).block());
+    }
+
+    @Override
+    public User save(User user) {
+        return mongoTemplate.save(mapper.toDocument(user), COLLECTION)
+                .thenReturn(user)
+                .block();
+    }
+
+    /**
+     * @throws UserAlreadyExistsException if the email is taken
+     */
+    @Override
+    public User insert(User user) {
+        return insertOne(user).block();
+    }
+
+    /**
+     * One insert per user, in order; duplicates are skipped. The reactive edition has no bulk endpoint.
+     */
+    @Override
+    public List<User> insertAll(List<User> users) {
+        return Flux.fromIterable(users)
+                .concatMap(user -> insertOne(user)
+                        .onErrorResume(UserAlreadyExistsException.class, e -> Mono.empty()))
+                .collectList()
+                .block();
+    }
+
+    @Override
+    public void updatePasswordHash(String id, String passwordHash) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id)),
+                Update.update("passwordHash", passwordHash),
+                COLLECTION
+        ).block();
+    }
+
+    private Mono<User> insertOne(User user) {
+        return mongoTemplate.insert(mapper.toDocument(user), COLLECTION)
+                .thenReturn(user)
+                .onErrorMap(DuplicateKeyException.class, e -> new UserAlreadyExistsException(user.email()));
+    }
+
+    private Query byEmail(String email) {
+        return Query.query(Criteria.where("email").is(email));
+    }
+}
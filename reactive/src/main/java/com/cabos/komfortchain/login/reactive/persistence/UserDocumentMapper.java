@@ -0,0 +1,65 @@
+package com.cabos.komfortchain.login.reactive.persistence;
+
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.RoleSets;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps users to the same {@code users} document layout written by the servlet login-service.
+ */
+@Component
+public class UserDocumentMapper {
+
+    public Document toDocument(User user) {
+        if (user == null) return null;
+        return new Document("_id", user.id())
+                .append("name", user.name())
+                .append("email", user.email())
+                .append("passwordHash", user.passwordHash())
+                .append("roles", user.roles().stream().map(Enum::name).toList())
+                .append("roleMask", RoleSets.toMask(user.roles()))
+                .append("active", user.active());
+    }
+
+    public User toDomain(Document document) {
+        if (document == null) return null;
+        return new User(
+                document.getString("_id"),
+                document.getString("name"),
+                document.getString("email"),
+                document.getString("passwordHash"),
+                rolesOf(document),
+                document.getBoolean("active", false)
+        );
+    }
+
+    public UserCredentials toCredentials(Document document) {
+        if (document == null) return null;
+        return new UserCredentials(
+                document.getString("_id"),
+                document.getString("passwordHash"),
+                rolesOf(document),
+                document.getBoolean("active", false)
+        );
+    }
+
+    private Set<Role> rolesOf(Document document) {
+        Integer roleMask = document.getInteger("roleMask");
+        if (roleMask != null) {
+            return RoleSets.fromMask(roleMask);
+        }
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        List<String> names = document.getList("roles", String.class, List.of());
+        for (String name : names) {
+            roles.add(Role.valueOf(name));
+        }
+        return RoleSets.canonical(roles);
+    }
+}
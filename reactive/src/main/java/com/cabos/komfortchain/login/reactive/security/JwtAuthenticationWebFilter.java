@@ -0,0 +1,58 @@
+package com.cabos.komfortchain.login.reactive.security;
+
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.shared.revocation.RevokedTokenSync;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verifies the bearer token on the event loop; the compact codec is CPU-cheap and never blocks,
+ * and revoked tokens are ignored from the in-memory {@link RevokedTokenSync} mirror. While the mirror
+ * is stale ({@code revocation.max-staleness}), no token is trusted.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final TokenProviderPort tokenProvider;
+    private final RevokedTokenSync revokedTokens;
+
+    public JwtAuthenticationWebFilter(TokenProviderPort tokenProvider, RevokedTokenSync revokedTokens) {
+        this.tokenProvider = tokenProvider;
+        this.revokedTokens = revokedTokens;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith("Bearer ")) {
+            TokenClaims claims = tokenProvider.parseToken(header.substring(7));
+
+            if (claims.valid() && revokedTokens.isCurrent() && !revokedTokens.isRevoked(claims.tokenId())) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(claims.subject(), null, toAuthorities(claims.roles()));
+                return chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+            }
+        }
+
+        return chain.filter(exchange);
+    }
+
+    private List<GrantedAuthority> toAuthorities(Set<Role> roles) {
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.cabos.komfortchain.login.shared.audit;
+
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.shared.configuration.AuditProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bounded buffer between the request threads and a single background writer. {@link #record} never
+ * blocks: when the buffer is full the configured {@link AuditProperties.DropPolicy} decides which
+ * event is lost, and the loss is counted in {@code login.audit.dropped{reason=buffer_full}}.
+ * <p>
+ * The writer hands the sink batches of up to {@code audit.batch-size} events, flushing early once
+ * {@code audit.flush-interval} has passed since the first event of the batch. A batch the sink fails
+ * to write is dropped and counted with {@code reason=write_failed}; on close, whatever is buffered is
+ * written before returning.
+ */
+public class AuditEventBuffer implements AuditEventPort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventBuffer.class);
+
+    private final ArrayBlockingQueue<AuditEvent> queue;
+    private final Consumer<List<AuditEvent>> sink;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final boolean dropOldest;
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedWriteFailed;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AuditEventBuffer(String name,
+                            Consumer<List<AuditEvent>> sink,
+                            AuditProperties properties,
+                            MeterRegistry registry) {
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.sink = sink;
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.dropOldest = properties.getDropPolicy() == AuditProperties.DropPolicy.DROP_OLDEST;
+        this.written = Counter.builder("login.audit.written").register(registry);
+        this.droppedFull = Counter.builder("login.audit.dropped").tag("reason", "buffer_full").register(registry);
+        this.droppedWriteFailed = Counter.builder("login.audit.dropped").tag("reason", "write_failed").register(registry);
+        Gauge.builder("login.audit.buffer.size", queue, ArrayBlockingQueue::size).register(registry);
+
+        this.writer = new Thread(this::writeLoop, name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+        if (!dropOldest) {
+            droppedFull.increment();
+            return;
+        }
+        while (!queue.offer(event)) {
+            if (queue.poll() != null) {
+                droppedFull.increment();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 5_000);
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                fill(batch);
+                flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * Waits up to one flush interval for a first event, then keeps adding until the batch is full
+     * or the interval since that first event has passed.
+     */
+    private void fill(List<AuditEvent> batch) throws InterruptedException {
+        AuditEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long flushAt = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize && running) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            AuditEvent next = queue.poll(flushAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.accept(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            droppedWriteFailed.increment(batch.size());
+            log.warn("Dropped {} audit events that could not be written", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
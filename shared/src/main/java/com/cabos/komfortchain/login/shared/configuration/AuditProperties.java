@@ -0,0 +1,56 @@
+package com.cabos.komfortchain.login.shared.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    private int bufferCapacity = 8192;
+
+    private int batchSize = 500;
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    public void setDropPolicy(DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    public enum DropPolicy {
+        /** Keeps what is buffered and discards the event being recorded. */
+        DROP_NEWEST,
+        /** Discards the oldest buffered event to make room. */
+        DROP_OLDEST
+    }
+}
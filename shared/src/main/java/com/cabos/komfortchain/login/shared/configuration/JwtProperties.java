@@ -0,0 +1,51 @@
+package com.cabos.komfortchain.login.shared.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private String secret = "change-me-in-prod";
+
+    private long expirationSeconds = 3600L;
+
+    /**
+     * Up to this many seconds are taken off each token's lifetime at random, so that clients
+     * logged in together do not all renew in the same second.
+     */
+    private long expirationJitterSeconds = 0L;
+
+    private long refreshExpirationSeconds = 1_209_600L;
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+
+    public void setExpirationSeconds(long expirationSeconds) {
+        this.expirationSeconds = expirationSeconds;
+    }
+
+    public long getExpirationJitterSeconds() {
+        return expirationJitterSeconds;
+    }
+
+    public void setExpirationJitterSeconds(long expirationJitterSeconds) {
+        this.expirationJitterSeconds = expirationJitterSeconds;
+    }
+
+    public long getRefreshExpirationSeconds() {
+        return refreshExpirationSeconds;
+    }
+
+    public void setRefreshExpirationSeconds(long refreshExpirationSeconds) {
+        this.refreshExpirationSeconds = refreshExpirationSeconds;
+    }
+}
@@ -0,0 +1,96 @@
+package com.cabos.komfortchain.login.shared.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "lockout")
+public class LockoutProperties {
+
+    private Store store = Store.MEMORY;
+
+    private int maxFailures = 5;
+
+    private Duration lockDuration = Duration.ofSeconds(30);
+
+    private Duration maxLockDuration = Duration.ofMinutes(15);
+
+    private Duration failureWindow = Duration.ofMinutes(15);
+
+    private int stripes = 64;
+
+    private int maxEntriesPerStripe = 4096;
+
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public void setMaxFailures(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    public Duration getLockDuration() {
+        return lockDuration;
+    }
+
+    public void setLockDuration(Duration lockDuration) {
+        this.lockDuration = lockDuration;
+    }
+
+    public Duration getMaxLockDuration() {
+        return maxLockDuration;
+    }
+
+    public void setMaxLockDuration(Duration maxLockDuration) {
+        this.maxLockDuration = maxLockDuration;
+    }
+
+    public Duration getFailureWindow() {
+        return failureWindow;
+    }
+
+    public void setFailureWindow(Duration failureWindow) {
+        this.failureWindow = failureWindow;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxEntriesPerStripe() {
+        return maxEntriesPerStripe;
+    }
+
+    public void setMaxEntriesPerStripe(int maxEntriesPerStripe) {
+        this.maxEntriesPerStripe = maxEntriesPerStripe;
+    }
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(Duration syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public enum Store {
+        /** Per instance; an attacker spreading guesses over N instances gets N times the budget. */
+        MEMORY,
+        /** Shared through the {@code login_attempts} collection. */
+        MONGO
+    }
+}
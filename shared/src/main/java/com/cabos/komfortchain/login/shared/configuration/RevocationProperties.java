@@ -0,0 +1,53 @@
+package com.cabos.komfortchain.login.shared.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "revocation")
+public class RevocationProperties {
+
+    private int expectedRevocations = 100_000;
+
+    private double falsePositiveRate = 0.01;
+
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    /**
+     * Read by {@code RevokedTokenSync} mirrors only: without a successful poll for this long, they stop
+     * trusting tokens. login-service itself always answers from its own list.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(30);
+
+    public int getExpectedRevocations() {
+        return expectedRevocations;
+    }
+
+    public void setExpectedRevocations(int expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(Duration syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+}
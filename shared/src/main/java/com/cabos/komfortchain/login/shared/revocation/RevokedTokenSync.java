@@ -0,0 +1,107 @@
+package com.cabos.komfortchain.login.shared.revocation;
+
+import com.cabos.komfortchain.login.domain.token.RevocationList;
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only mirror of login-service's {@code revoked_tokens} collection, polled every
+ * {@code revocation.sync-interval} into a {@link RevocationList} with the same watermark as
+ * login-service's own sync. Lookups are in memory; the poll runs on its own thread from {@link #start}.
+ * Tokens are revoked only through login-service.
+ * <p>
+ * {@link #isCurrent} turns false when no poll has succeeded for {@code revocation.max-staleness}
+ * (including before the first one), so callers can stop trusting tokens they cannot check.
+ */
+public class RevokedTokenSync implements AutoCloseable {
+
+    public static final String COLLECTION = "revoked_tokens";
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenSync.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final RevocationList revocationList;
+    private final long syncIntervalMillis;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService scheduler;
+    private volatile Instant syncedUntil = Instant.EPOCH;
+
+    public RevokedTokenSync(ReactiveMongoTemplate mongoTemplate, RevocationProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.revocationList = new RevocationList(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+        this.syncIntervalMillis = properties.getSyncInterval().toMillis();
+        this.maxStalenessMillis = properties.getMaxStaleness().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revoked-token-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts polling, right away unless {@link #sync} has already loaded the list.
+     */
+    public void start() {
+        long initialDelay = syncedUntil.equals(Instant.EPOCH) ? 0 : syncIntervalMillis;
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, initialDelay, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isRevoked(long tokenId) {
+        return revocationList.contains(tokenId);
+    }
+
+    public boolean isCurrent() {
+        return System.currentTimeMillis() - syncedUntil.toEpochMilli() <= maxStalenessMillis;
+    }
+
+    public int size() {
+        return revocationList.size();
+    }
+
+    public double stalenessSeconds() {
+        return (System.currentTimeMillis() - syncedUntil.toEpochMilli()) / 1000.0;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Re-reads one sync interval behind the previous watermark, like login-service does. Blocks
+     * until Mongo has answered, so it must not run on an event-loop thread.
+     */
+    public void sync() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("expiresAt").gt(Date.from(now))
+                .and("revokedAt").gte(Date.from(syncedUntil.minusMillis(syncIntervalMillis))));
+        query.fields().include("expiresAt");
+        mongoTemplate.find(query, Document.class, COLLECTION)
+                .doOnNext(document -> revocationList.add(
+                        document.get("_id", Number.class).longValue(),
+                        document.getDate("expiresAt").toInstant().getEpochSecond()))
+                .then()
+                .block();
+        revocationList.purgeExpired(now.getEpochSecond());
+        syncedUntil = now;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Revoked token sync failed, retrying in {}ms", syncIntervalMillis, e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.cabos.komfortchain.login.shared.security;
+
+import com.cabos.komfortchain.login.domain.port.LoginAttemptPort;
+import com.cabos.komfortchain.login.shared.configuration.LockoutProperties;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-account failure counters, split over lock stripes chosen by the hash of the address so that
+ * logins for different accounts rarely contend. After {@code lockout.max-failures} failures inside
+ * {@code lockout.failure-window} the account is locked for {@code lockout.lock-duration}, doubled
+ * for every further failure up to {@code lockout.max-lock-duration}. Counters of accounts that are
+ * neither locked nor failed recently are swept when a stripe outgrows
+ * {@code lockout.max-entries-per-stripe}.
+ */
+public class FailedLoginTracker implements LoginAttemptPort {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxFailures;
+    private final long lockMillis;
+    private final long maxLockMillis;
+    private final long failureWindowMillis;
+    private final int maxEntriesPerStripe;
+
+    public FailedLoginTracker(LockoutProperties properties) {
+        int count = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = count - 1;
+        this.maxFailures = Math.max(1, properties.getMaxFailures());
+        this.lockMillis = properties.getLockDuration().toMillis();
+        this.maxLockMillis = properties.getMaxLockDuration().toMillis();
+        this.failureWindowMillis = properties.getFailureWindow().toMillis();
+        this.maxEntriesPerStripe = properties.getMaxEntriesPerStripe();
+    }
+
+    @Override
+    public long lockedForSeconds(String email) {
+        long remaining = lockedForMillis(email, System.currentTimeMillis());
+        return remaining <= 0 ? 0 : (remaining + 999) / 1000;
+    }
+
+    @Override
+    public void recordFailure(String email) {
+        long now = System.currentTimeMillis();
+        String key = key(email);
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            Entry entry = stripe.entry(key, now);
+            if (now - entry.lastFailureMillis > failureWindowMillis && entry.lockedUntilMillis <= now) {
+                entry.failures = 0;
+            }
+            entry.failures++;
+            entry.lastFailureMillis = now;
+            if (entry.failures >= maxFailures) {
+                entry.lockedUntilMillis = Math.max(entry.lockedUntilMillis, now + lockDurationMillis(entry.failures));
+            }
+        }
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        reset(email);
+    }
+
+    public long lockedForMillis(String email, long now) {
+        String key = key(email);
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            Entry entry = stripe.entries.get(key);
+            return entry == null ? 0 : Math.max(0, entry.lockedUntilMillis - now);
+        }
+    }
+
+    /**
+     * Takes over state decided elsewhere (the shared store): counters and locks only ever grow here.
+     */
+    public void apply(String email, int failures, long lockedUntilMillis, long now) {
+        String key = key(email);
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            Entry entry = stripe.entry(key, now);
+            entry.failures = Math.max(entry.failures, failures);
+            entry.lastFailureMillis = Math.max(entry.lastFailureMillis, now);
+            entry.lockedUntilMillis = Math.max(entry.lockedUntilMillis, lockedUntilMillis);
+        }
+    }
+
+    /**
+     * @return whether the account had any failures tracked here
+     */
+    public boolean reset(String email) {
+        String key = key(email);
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            return !stripe.entries.isEmpty() && stripe.entries.remove(key) != null;
+        }
+    }
+
+    public long lockDurationMillis(int failures) {
+        if (failures < maxFailures) {
+            return 0;
+        }
+        int doublings = Math.min(failures - maxFailures, 30);
+        return Math.min(maxLockMillis, lockMillis << doublings);
+    }
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return entry.lockedUntilMillis <= now && now - entry.lastFailureMillis > failureWindowMillis;
+    }
+
+    private final class Stripe {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        Entry entry(String key, long now) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                return entry;
+            }
+            if (entries.size() >= maxEntriesPerStripe) {
+                for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+                    if (expired(it.next(), now)) {
+                        it.remove();
+                    }
+                }
+            }
+            entry = new Entry();
+            entries.put(key, entry);
+            return entry;
+        }
+    }
+
+    private static final class Entry {
+
+        private int failures;
+        private long lastFailureMillis;
+        private long lockedUntilMillis;
+    }
+}
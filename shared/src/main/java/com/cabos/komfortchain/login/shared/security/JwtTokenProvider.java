@@ -0,0 +1,62 @@
+package com.cabos.komfortchain.login.shared.security;
+
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.token.CompactTokenCodec;
+import com.cabos.komfortchain.login.shared.configuration.JwtProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class JwtTokenProvider implements TokenProviderPort {
+
+    private final JwtProperties jwtProperties;
+    private final CompactTokenCodec codec;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.codec = new CompactTokenCodec(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String generateToken(String subject, Set<Role> roles) {
+        return issueToken(subject, roles).token();
+    }
+
+    @Override
+    public IssuedToken issueToken(String subject, Set<Role> roles) {
+        long now = Instant.now().getEpochSecond();
+        long expiration = now + jwtProperties.getExpirationSeconds() - jitter();
+
+        return codec.issue(subject, expiration, roles);
+    }
+
+    private long jitter() {
+        long jitterSeconds = jwtProperties.getExpirationJitterSeconds();
+        return jitterSeconds > 0 ? ThreadLocalRandom.current().nextLong(jitterSeconds + 1) : 0L;
+    }
+
+    @Override
+    public TokenClaims parseToken(String token) {
+        return codec.decode(token, Instant.now().getEpochSecond());
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        return codec.verify(token, Instant.now().getEpochSecond());
+    }
+
+    @Override
+    public String getSubject(String token) {
+        return parseToken(token).subject();
+    }
+
+    @Override
+    public long getExpiration(String token) {
+        return parseToken(token).expiresAtEpochSeconds();
+    }
+}
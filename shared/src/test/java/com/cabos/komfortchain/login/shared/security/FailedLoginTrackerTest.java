@@ -0,0 +1,126 @@
+package com.cabos.komfortchain.login.shared.security;
+
+import com.cabos.komfortchain.login.shared.configuration.LockoutProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FailedLoginTrackerTest {
+
+    private static final String EMAIL = "ana@example.com";
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private final FailedLoginTracker tracker = new FailedLoginTracker(properties(64, 4096));
+
+    @Test
+    void locksOnlyOnceTheThresholdIsReached() {
+        tracker.recordFailure(EMAIL);
+        tracker.recordFailure(EMAIL);
+        assertEquals(0, tracker.lockedForSeconds(EMAIL));
+
+        tracker.recordFailure(EMAIL);
+
+        long lockedFor = tracker.lockedForMillis(EMAIL, System.currentTimeMillis());
+        assertTrue(lockedFor > 0 && lockedFor <= 1_000, "locked for " + lockedFor + "ms");
+        assertEquals(1, tracker.lockedForSeconds(EMAIL));
+    }
+
+    @Test
+    void doublesTheLockForEveryFurtherFailureUpToTheMaximum() {
+        assertEquals(0, tracker.lockDurationMillis(2));
+        assertEquals(1_000, tracker.lockDurationMillis(3));
+        assertEquals(2_000, tracker.lockDurationMillis(4));
+        assertEquals(4_000, tracker.lockDurationMillis(5));
+        assertEquals(4_000, tracker.lockDurationMillis(6));
+        assertEquals(4_000, tracker.lockDurationMillis(Integer.MAX_VALUE));
+
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure(EMAIL);
+        }
+        assertTrue(tracker.lockedForMillis(EMAIL, System.currentTimeMillis()) > 2_000);
+    }
+
+    @Test
+    void lockExpiresAfterItsDuration() {
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure(EMAIL);
+        }
+        long now = System.currentTimeMillis();
+
+        assertTrue(tracker.lockedForMillis(EMAIL, now) > 0);
+        assertEquals(0, tracker.lockedForMillis(EMAIL, now + 1_001));
+    }
+
+    @Test
+    void failuresOutsideTheWindowAreForgotten() {
+        long now = System.currentTimeMillis();
+        tracker.apply(EMAIL, 2, 0, now - WINDOW_MILLIS - 1_000);
+
+        tracker.recordFailure(EMAIL);
+
+        assertEquals(0, tracker.lockedForSeconds(EMAIL));
+    }
+
+    @Test
+    void failuresInsideTheWindowAccumulate() {
+        long now = System.currentTimeMillis();
+        tracker.apply(EMAIL, 2, 0, now - WINDOW_MILLIS + 60_000);
+
+        tracker.recordFailure(EMAIL);
+
+        assertTrue(tracker.lockedForSeconds(EMAIL) > 0);
+    }
+
+    @Test
+    void successClearsTheCounter() {
+        tracker.recordFailure(EMAIL);
+        tracker.recordFailure(EMAIL);
+
+        tracker.recordSuccess(EMAIL);
+        tracker.recordFailure(EMAIL);
+        tracker.recordFailure(EMAIL);
+
+        assertEquals(0, tracker.lockedForSeconds(EMAIL));
+    }
+
+    @Test
+    void addressesDifferingOnlyInCaseShareACounter() {
+        tracker.recordFailure("Ana@Example.com");
+        tracker.recordFailure("ANA@EXAMPLE.COM");
+        tracker.recordFailure(EMAIL);
+
+        assertTrue(tracker.lockedForSeconds("aNa@example.COM") > 0);
+        assertEquals(0, tracker.lockedForSeconds("bia@example.com"));
+    }
+
+    @Test
+    void sweepDropsStaleCountersButKeepsLockedAccounts() {
+        FailedLoginTracker small = new FailedLoginTracker(properties(1, 4));
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            small.apply("stale" + i + "@example.com", 1, 0, now - WINDOW_MILLIS - 1_000);
+        }
+        small.apply(EMAIL, 3, now + 60_000, now - WINDOW_MILLIS - 1_000);
+
+        small.recordFailure("bia@example.com");
+
+        assertEquals(2, small.size());
+        assertTrue(small.lockedForSeconds(EMAIL) > 0);
+        assertFalse(small.reset("stale0@example.com"));
+    }
+
+    private static LockoutProperties properties(int stripes, int maxEntriesPerStripe) {
+        LockoutProperties properties = new LockoutProperties();
+        properties.setMaxFailures(3);
+        properties.setLockDuration(Duration.ofSeconds(1));
+        properties.setMaxLockDuration(Duration.ofSeconds(4));
+        properties.setFailureWindow(Duration.ofMillis(WINDOW_MILLIS));
+        properties.setStripes(stripes);
+        properties.setMaxEntriesPerStripe(maxEntriesPerStripe);
+        return properties;
+    }
+}
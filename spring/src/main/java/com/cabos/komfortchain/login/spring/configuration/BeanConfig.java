@@ -1,55 +1,220 @@
 package com.cabos.komfortchain.login.spring.configuration;
 
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.domain.port.LoginAttemptPort;
 import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.port.RefreshTokenPort;
 import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.TokenRevocationPort;
 import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserService;
 import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RefreshTokenService;
+import com.cabos.komfortchain.login.domain.usecase.RefreshTokenUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserService;
 import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RevokeTokenService;
+import com.cabos.komfortchain.login.domain.usecase.RevokeTokenUseCase;
+import com.cabos.komfortchain.login.domain.usecase.ValidateTokenService;
 import com.cabos.komfortchain.login.domain.usecase.ValidateTokenUseCase;
-import com.cabos.komfortchain.login.spring.persistence.adapter.UserRepositoryAdapter;
-import com.cabos.komfortchain.login.spring.security.JwtTokenProvider;
+import com.cabos.komfortchain.login.shared.configuration.AuditProperties;
+import com.cabos.komfortchain.login.shared.configuration.JwtProperties;
+import com.cabos.komfortchain.login.shared.configuration.LockoutProperties;
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import com.cabos.komfortchain.login.shared.security.FailedLoginTracker;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+import com.cabos.komfortchain.login.spring.metrics.MeteredAuthenticateUserUseCase;
+import com.cabos.komfortchain.login.spring.metrics.MeteredPasswordEncoder;
+import com.cabos.komfortchain.login.spring.metrics.MeteredRefreshTokenUseCase;
+import com.cabos.komfortchain.login.spring.metrics.MeteredRegisterUserUseCase;
+import com.cabos.komfortchain.login.spring.metrics.MeteredTokenProvider;
+import com.cabos.komfortchain.login.spring.metrics.MeteredUserRepository;
+import com.cabos.komfortchain.login.spring.metrics.MeteredValidateTokenUseCase;
+import com.cabos.komfortchain.login.spring.persistence.adapter.CachingUserRepository;
+import com.cabos.komfortchain.login.spring.persistence.adapter.LoginAttemptAdapter;
+import com.cabos.komfortchain.login.spring.security.BoundedPasswordEncoder;
+import com.cabos.komfortchain.login.spring.security.BulkHashingPool;
+import com.cabos.komfortchain.login.spring.security.PasswordEncoderAdapter;
+import com.cabos.komfortchain.login.spring.warmup.WarmupAuditFilter;
+import com.cabos.komfortchain.login.spring.warmup.WarmupRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+
 @Configuration
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        RevocationProperties.class,
+        LockoutProperties.class,
+        AuditProperties.class
+})
 public class BeanConfig {
 
+    /**
+     * Decorates the store adapter of the active profile: {@code UserRepositoryAdapter} (Mongo) or,
+     * under {@code in-memory}, {@code CompactUserRepository}.
+     */
+    @Bean
+    @Primary
+    public UserRepositoryPort userRepositoryPort(UserRepositoryPort adapter,
+                                                 UserCacheProperties userCacheProperties,
+                                                 MeterRegistry meterRegistry) {
+        if (!userCacheProperties.isEnabled()) {
+            return new MeteredUserRepository(adapter, meterRegistry);
+        }
+        CachingUserRepository cachingUserRepository = new CachingUserRepository(
+                adapter,
+                userCacheProperties.getMaximumSize(),
+                userCacheProperties.getTtl(),
+                userCacheProperties.getNegativeMaximumSize(),
+                userCacheProperties.getNegativeTtl()
+        );
+        cachingUserRepository.bindTo(meterRegistry);
+        return new MeteredUserRepository(cachingUserRepository, meterRegistry);
+    }
+
+    /**
+     * With virtual threads, BCrypt always goes to the platform-thread hashing pool: long CPU-bound
+     * hashes would otherwise hold the few carrier threads and stall every other request.
+     */
+    @Bean
+    public PasswordEncoderPort passwordEncoderPort(PasswordEncoder passwordEncoder,
+                                                   HashingProperties hashingProperties,
+                                                   Environment environment,
+                                                   MeterRegistry meterRegistry) {
+        PasswordEncoderPort adapter = new PasswordEncoderAdapter(passwordEncoder);
+        if (!hashingProperties.isEnabled() && !Threading.VIRTUAL.isActive(environment)) {
+            return new MeteredPasswordEncoder(adapter, meterRegistry);
+        }
+        BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(
+                adapter,
+                hashingProperties.getPoolSize(),
+                hashingProperties.getQueueCapacity(),
+                hashingProperties.getWaitTimeout(),
+                hashingProperties.getRetryAfterSeconds()
+        );
+        new ExecutorServiceMetrics(boundedPasswordEncoder.getExecutor(), "password-hash", List.of())
+                .bindTo(meterRegistry);
+        return new MeteredPasswordEncoder(boundedPasswordEncoder, meterRegistry);
+    }
+
     @Bean
-    public UserRepositoryPort userRepositoryPort(UserRepositoryAdapter adapter) {
-        return adapter;
+    public JwtTokenProvider jwtTokenProvider(JwtProperties jwtProperties) {
+        return new JwtTokenProvider(jwtProperties);
     }
 
     @Bean
-    public PasswordEncoderPort passwordEncoderPort(PasswordEncoder passwordEncoder) {
-        return new PasswordEncoderPort() {
-            @Override
-            public String encode(String rawPassword) {
-                return passwordEncoder.encode(rawPassword);
-            }
+    @Primary
+    public TokenProviderPort tokenProviderPort(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        return new MeteredTokenProvider(jwtTokenProvider, meterRegistry);
+    }
 
-            @Override
-            public boolean matches(String rawPassword, String encodedPassword) {
-                return passwordEncoder.matches(rawPassword, encodedPassword);
-            }
-        };
+    /**
+     * Decorates the audit adapter of the active profile: {@code AuditEventAdapter} (Mongo) or,
+     * under {@code in-memory}, {@code LoggingAuditLog}.
+     */
+    @Bean
+    @Primary
+    public AuditEventPort auditEventPort(AuditEventPort adapter, WarmupRunner warmupRunner) {
+        return new WarmupAuditFilter(adapter, warmupRunner);
     }
 
+    /**
+     * Injected by name, like {@link #bulkRegisterUserUseCase}: the two differ only in the password encoder.
+     */
     @Bean
     public RegisterUserUseCase registerUserUseCase(UserRepositoryPort userRepositoryPort,
-                                                   PasswordEncoderPort passwordEncoderPort) {
-        return new RegisterUserUseCase(userRepositoryPort, passwordEncoderPort);
+                                                   PasswordEncoderPort passwordEncoderPort,
+                                                   AuditEventPort auditEventPort,
+                                                   MeterRegistry meterRegistry) {
+        return new MeteredRegisterUserUseCase(
+                new RegisterUserService(userRepositoryPort, passwordEncoderPort, auditEventPort), meterRegistry);
+    }
+
+    @Bean
+    public BulkHashingPool bulkHashingPool(BulkRegistrationProperties bulkRegistrationProperties,
+                                           MeterRegistry meterRegistry) {
+        BulkHashingPool pool = new BulkHashingPool(
+                bulkRegistrationProperties.getPoolSize(),
+                bulkRegistrationProperties.getBatchSize()
+        );
+        new ExecutorServiceMetrics(pool.getExecutor(), "bulk-password-hash", List.of()).bindTo(meterRegistry);
+        return pool;
+    }
+
+    @Bean
+    public RegisterUserUseCase bulkRegisterUserUseCase(UserRepositoryPort userRepositoryPort,
+                                                       PasswordEncoder passwordEncoder,
+                                                       AuditEventPort auditEventPort,
+                                                       MeterRegistry meterRegistry) {
+        PasswordEncoderPort passwordEncoderPort =
+                new MeteredPasswordEncoder(new PasswordEncoderAdapter(passwordEncoder), meterRegistry);
+        return new MeteredRegisterUserUseCase(
+                new RegisterUserService(userRepositoryPort, passwordEncoderPort, auditEventPort), meterRegistry);
+    }
+
+    /**
+     * {@code lockout.store=mongo} shares counters between instances; the lock check itself stays
+     * local either way.
+     */
+    @Bean
+    public LoginAttemptPort loginAttemptPort(LockoutProperties lockoutProperties,
+                                             ObjectProvider<MongoTemplate> mongoTemplate,
+                                             MeterRegistry meterRegistry) {
+        FailedLoginTracker tracker = new FailedLoginTracker(lockoutProperties);
+        Gauge.builder("login.lockout.tracked", tracker, FailedLoginTracker::size).register(meterRegistry);
+        if (lockoutProperties.getStore() != LockoutProperties.Store.MONGO) {
+            return tracker;
+        }
+        MongoTemplate template = mongoTemplate.getIfAvailable();
+        if (template == null) {
+            throw new IllegalStateException("lockout.store=mongo needs MongoDB, which the in-memory profile turns off");
+        }
+        return new LoginAttemptAdapter(template, tracker, lockoutProperties);
     }
 
     @Bean
     public AuthenticateUserUseCase authenticateUserUseCase(UserRepositoryPort userRepositoryPort,
                                                            PasswordEncoderPort passwordEncoderPort,
-                                                           TokenProviderPort tokenProviderPort) {
-        return new AuthenticateUserUseCase(userRepositoryPort, passwordEncoderPort, tokenProviderPort);
+                                                           TokenProviderPort tokenProviderPort,
+                                                           LoginAttemptPort loginAttemptPort,
+                                                           AuditEventPort auditEventPort,
+                                                           MeterRegistry meterRegistry) {
+        return new MeteredAuthenticateUserUseCase(new AuthenticateUserService(userRepositoryPort,
+                passwordEncoderPort, tokenProviderPort, loginAttemptPort, auditEventPort), meterRegistry);
+    }
+
+    @Bean
+    public ValidateTokenUseCase validateTokenUseCase(TokenProviderPort tokenProviderPort,
+                                                     MeterRegistry meterRegistry) {
+        return new MeteredValidateTokenUseCase(new ValidateTokenService(tokenProviderPort), meterRegistry);
+    }
+
+    @Bean
+    public RefreshTokenUseCase refreshTokenUseCase(TokenProviderPort tokenProviderPort,
+                                                   RefreshTokenPort refreshTokenPort,
+                                                   UserRepositoryPort userRepositoryPort,
+                                                   JwtProperties jwtProperties,
+                                                   MeterRegistry meterRegistry) {
+        return new MeteredRefreshTokenUseCase(new RefreshTokenService(tokenProviderPort, refreshTokenPort,
+                userRepositoryPort, jwtProperties.getRefreshExpirationSeconds()), meterRegistry);
     }
 
     @Bean
-    public ValidateTokenUseCase validateTokenUseCase(TokenProviderPort tokenProviderPort) {
-        return new ValidateTokenUseCase(tokenProviderPort);
+    public RevokeTokenUseCase revokeTokenUseCase(TokenProviderPort tokenProviderPort,
+                                                 TokenRevocationPort tokenRevocationPort,
+                                                 RefreshTokenPort refreshTokenPort) {
+        return new RevokeTokenService(tokenProviderPort, tokenRevocationPort, refreshTokenPort);
     }
 }
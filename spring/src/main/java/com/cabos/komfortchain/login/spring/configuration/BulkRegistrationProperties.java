@@ -0,0 +1,29 @@
+package com.cabos.komfortchain.login.spring.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bulk-registration")
+public class BulkRegistrationProperties {
+
+    private int batchSize = 100;
+
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+}
@@ -1,29 +0,0 @@
-package com.cabos.komfortchain.login.spring.configuration;
-
-import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.stereotype.Component;
-
-@Component
-@ConfigurationProperties(prefix = "jwt")
-public class JwtProperties {
-
-    private String secret = "change-me-in-prod";
-
-    private long expirationSeconds = 3600L;
-
-    public String getSecret() {
-        return secret;
-    }
-
-    public void setSecret(String secret) {
-        this.secret = secret;
-    }
-
-    public long getExpirationSeconds() {
-        return expirationSeconds;
-    }
-
-    public void setExpirationSeconds(long expirationSeconds) {
-        this.expirationSeconds = expirationSeconds;
-    }
-}
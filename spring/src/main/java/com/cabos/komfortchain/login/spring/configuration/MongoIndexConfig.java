@@ -0,0 +1,90 @@
+package com.cabos.komfortchain.login.spring.configuration;
+
+import com.cabos.komfortchain.login.spring.persistence.adapter.UserRepositoryAdapter;
+import com.cabos.komfortchain.login.spring.persistence.entity.AuditEventEntity;
+import com.cabos.komfortchain.login.spring.persistence.entity.LoginAttemptEntity;
+import com.cabos.komfortchain.login.spring.persistence.entity.RefreshTokenEntity;
+import com.cabos.komfortchain.login.spring.persistence.entity.RevokedTokenEntity;
+import com.cabos.komfortchain.login.spring.persistence.entity.UserEntity;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Ensures the indexes the adapters rely on exist before the service takes traffic.
+ * Spring Boot does not create {@code @Indexed} indexes automatically.
+ */
+@Component
+@Profile("!in-memory")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MongoIndexConfig implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexConfig(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexOperations users = mongoTemplate.indexOps(UserEntity.class);
+        users.ensureIndex(new Index()
+                .on("email", Sort.Direction.ASC)
+                .unique()
+                .named("email_unique"));
+        users.ensureIndex(new Index()
+                .on("email", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .on("passwordHash", Sort.Direction.ASC)
+                .on("roleMask", Sort.Direction.ASC)
+                .on("active", Sort.Direction.ASC)
+                .named(UserRepositoryAdapter.CREDENTIALS_INDEX));
+
+        IndexOperations revokedTokens = mongoTemplate.indexOps(RevokedTokenEntity.class);
+        revokedTokens.ensureIndex(new Index()
+                .on("expiresAt", Sort.Direction.ASC)
+                .expire(Duration.ZERO)
+                .named("expires_at_ttl"));
+        revokedTokens.ensureIndex(new Index()
+                .on("revokedAt", Sort.Direction.ASC)
+                .named("revoked_at"));
+
+        IndexOperations refreshTokens = mongoTemplate.indexOps(RefreshTokenEntity.class);
+        refreshTokens.ensureIndex(new Index()
+                .on("expiresAt", Sort.Direction.ASC)
+                .expire(Duration.ZERO)
+                .named("expires_at_ttl"));
+        refreshTokens.ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .named("user_id"));
+
+        IndexOperations auditEvents = mongoTemplate.indexOps(AuditEventEntity.class);
+        auditEvents.ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.DESC)
+                .named("user_id_timestamp"));
+        auditEvents.ensureIndex(new Index()
+                .on("email", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.DESC)
+                .named("email_timestamp"));
+
+        IndexOperations loginAttempts = mongoTemplate.indexOps(LoginAttemptEntity.class);
+        loginAttempts.ensureIndex(new Index()
+                .on("expiresAt", Sort.Direction.ASC)
+                .expire(Duration.ZERO)
+                .named("expires_at_ttl"));
+        loginAttempts.ensureIndex(new Index()
+                .on("lockedUntil", Sort.Direction.ASC)
+                .on("lastFailureAt", Sort.Direction.ASC)
+                .named("locked_until"));
+    }
+}
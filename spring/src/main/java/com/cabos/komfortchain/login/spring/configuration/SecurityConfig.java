@@ -1,7 +1,11 @@
 package com.cabos.komfortchain.login.spring.configuration;
 
+import com.cabos.komfortchain.login.spring.security.BCryptCostCalibrator;
 import com.cabos.komfortchain.login.spring.security.JwtAuthenticationFilter;
 import com.cabos.komfortchain.login.spring.security.JwtAuthenticationEntryPoint;
+import com.cabos.komfortchain.login.spring.security.TargetCostBCryptPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,7 +14,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,6 +22,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
 
@@ -35,7 +40,9 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(authenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.POST, "/api/v1/login", "/api/v1/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/login", "/api/v1/register", "/api/v1/refresh").permitAll()
+                        // Actuator is served on management.server.port only, never on the public port.
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 );
 
@@ -45,8 +52,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(HashingProperties hashingProperties) {
+        int strength = hashingProperties.getStrength();
+        if (hashingProperties.getTargetLatency() != null) {
+            strength = BCryptCostCalibrator.calibrate(
+                    hashingProperties.getTargetLatency(),
+                    hashingProperties.getMinStrength(),
+                    hashingProperties.getMaxStrength()
+            );
+            log.info("Calibrated BCrypt cost {} for a target latency of {}",
+                    strength, hashingProperties.getTargetLatency());
+        }
+        return new TargetCostBCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -0,0 +1,61 @@
+package com.cabos.komfortchain.login.spring.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "user-cache")
+public class UserCacheProperties {
+
+    private boolean enabled = false;
+
+    private long maximumSize = 10_000L;
+
+    private Duration ttl = Duration.ofSeconds(60);
+
+    private long negativeMaximumSize = 100_000L;
+
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getNegativeMaximumSize() {
+        return negativeMaximumSize;
+    }
+
+    public void setNegativeMaximumSize(long negativeMaximumSize) {
+        this.negativeMaximumSize = negativeMaximumSize;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+}
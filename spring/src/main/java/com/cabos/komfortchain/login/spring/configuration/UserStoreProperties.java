@@ -0,0 +1,53 @@
+package com.cabos.komfortchain.login.spring.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "user-store")
+public class UserStoreProperties {
+
+    /**
+     * Directory for the snapshot and append log; empty keeps users in memory only.
+     */
+    private String path;
+
+    private boolean syncWrites = false;
+
+    private DataSize compactLogSize = DataSize.ofMegabytes(64);
+
+    private int initialCapacity = 1024;
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public boolean isSyncWrites() {
+        return syncWrites;
+    }
+
+    public void setSyncWrites(boolean syncWrites) {
+        this.syncWrites = syncWrites;
+    }
+
+    public DataSize getCompactLogSize() {
+        return compactLogSize;
+    }
+
+    public void setCompactLogSize(DataSize compactLogSize) {
+        this.compactLogSize = compactLogSize;
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+}
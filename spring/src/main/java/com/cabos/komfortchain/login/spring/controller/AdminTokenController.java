@@ -0,0 +1,40 @@
+package com.cabos.komfortchain.login.spring.controller;
+
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
+import com.cabos.komfortchain.login.domain.usecase.RevokeTokenUseCase;
+import com.cabos.komfortchain.login.spring.dto.RevokeTokenRequestDTO;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Revokes a leaked or compromised token on behalf of its owner.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/tokens")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminTokenController {
+
+    private final RevokeTokenUseCase revokeTokenUseCase;
+
+    public AdminTokenController(RevokeTokenUseCase revokeTokenUseCase) {
+        this.revokeTokenUseCase = revokeTokenUseCase;
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RevokeTokenRequestDTO request) {
+        revokeTokenUseCase.revoke(request.token());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<String> handleInvalidToken(InvalidTokenException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+}
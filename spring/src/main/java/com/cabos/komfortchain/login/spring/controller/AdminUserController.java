@@ -0,0 +1,62 @@
+package com.cabos.komfortchain.login.spring.controller;
+
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.spring.mapper.UserMapper;
+import com.cabos.komfortchain.login.spring.persistence.adapter.UserExportAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports users as NDJSON straight from a Mongo cursor. Each line is written to the response as
+ * soon as it is read, so a slow client slows the cursor down instead of buffering users in memory.
+ * An interrupted export resumes with {@code after=<last exported id>}.
+ */
+@RestController
+@Profile("!in-memory")
+@RequestMapping("/api/v1/admin/users")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminUserController {
+
+    private final UserExportAdapter userExportAdapter;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+
+    public AdminUserController(UserExportAdapter userExportAdapter,
+                               UserMapper userMapper,
+                               ObjectMapper objectMapper) {
+        this.userExportAdapter = userExportAdapter;
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(path = "/export", produces = BulkRegistrationController.NDJSON)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) String after) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(BulkRegistrationController.NDJSON))
+                .body(out -> write(after, out));
+    }
+
+    private void write(String after, OutputStream out) throws IOException {
+        try (Stream<User> users = userExportAdapter.streamAfter(after)) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(userMapper.toResponseDTO(iterator.next())));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+}
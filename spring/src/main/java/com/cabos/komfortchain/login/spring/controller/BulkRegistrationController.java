@@ -0,0 +1,167 @@
+package com.cabos.komfortchain.login.spring.controller;
+
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase.RegisterUserCommand;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase.RegistrationOutcome;
+import com.cabos.komfortchain.login.spring.configuration.BulkRegistrationProperties;
+import com.cabos.komfortchain.login.spring.dto.BulkRegistrationResultDTO;
+import com.cabos.komfortchain.login.spring.dto.RegisterRequestDTO;
+import com.cabos.komfortchain.login.spring.security.BulkHashingPool;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Registers users from an NDJSON body ({@link RegisterRequestDTO} per line) and streams one
+ * {@link BulkRegistrationResultDTO} per input line while the body is still being read.
+ * Lines are processed in batches: passwords are hashed on the bulk hashing pool and each batch is
+ * written with a single insert, so memory use depends on the batch size, not on the body size.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class BulkRegistrationController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final RegisterUserUseCase registerUserUseCase;
+    private final Executor hashingExecutor;
+    private final BulkRegistrationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public BulkRegistrationController(@Qualifier("bulkRegisterUserUseCase") RegisterUserUseCase registerUserUseCase,
+                                      BulkHashingPool bulkHashingPool,
+                                      BulkRegistrationProperties properties,
+                                      ObjectMapper objectMapper,
+                                      Validator validator) {
+        this.registerUserUseCase = registerUserUseCase;
+        this.hashingExecutor = bulkHashingPool.getExecutor();
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @PostMapping(path = "/register/bulk", consumes = NDJSON, produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> registerBulk(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(out -> stream(body, out));
+    }
+
+    private void stream(InputStream body, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<Entry> batch = new ArrayList<>(properties.getBatchSize());
+        long lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(parse(lineNumber, line));
+            if (batch.size() == properties.getBatchSize()) {
+                flush(batch, out);
+            }
+        }
+        flush(batch, out);
+    }
+
+    private Entry parse(long lineNumber, String line) {
+        RegisterRequestDTO request;
+        try {
+            request = objectMapper.readValue(line, RegisterRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            return Entry.rejected(lineNumber, null, "invalid", "Malformed JSON");
+        }
+
+        Set<ConstraintViolation<RegisterRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<RegisterRequestDTO> violation = violations.iterator().next();
+            return Entry.rejected(lineNumber, request.email(), "invalid",
+                    violation.getPropertyPath() + " " + violation.getMessage());
+        }
+
+        return new Entry(lineNumber, request.email(),
+                new RegisterUserCommand(request.name(), request.email(), request.password()), null);
+    }
+
+    private void flush(List<Entry> batch, OutputStream out) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<RegisterUserCommand> commands = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            if (entry.command != null) {
+                commands.add(entry.command);
+            }
+        }
+
+        List<RegistrationOutcome> outcomes = List.of();
+        String failure = null;
+        if (!commands.isEmpty()) {
+            try {
+                outcomes = registerUserUseCase.registerAll(commands, hashingExecutor);
+            } catch (RuntimeException e) {
+                failure = "Batch failed: " + e.getClass().getSimpleName();
+            }
+        }
+
+        Iterator<RegistrationOutcome> results = outcomes.iterator();
+        for (Entry entry : batch) {
+            write(out, toResult(entry, entry.command == null || failure != null ? null : results.next(), failure));
+        }
+        out.flush();
+        batch.clear();
+    }
+
+    private static BulkRegistrationResultDTO toResult(Entry entry, RegistrationOutcome outcome, String failure) {
+        if (entry.command == null) {
+            return entry.rejection;
+        }
+        if (failure != null) {
+            return new BulkRegistrationResultDTO(entry.line, entry.email, "error", null, failure);
+        }
+        if (!outcome.created()) {
+            return new BulkRegistrationResultDTO(entry.line, entry.email, "duplicate", null, null);
+        }
+        return new BulkRegistrationResultDTO(entry.line, entry.email, "created", outcome.user().id(), null);
+    }
+
+    private void write(OutputStream out, BulkRegistrationResultDTO result) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(result));
+        out.write('\n');
+    }
+
+    private record Entry(long line, String email, RegisterUserCommand command, BulkRegistrationResultDTO rejection) {
+
+        static Entry rejected(long line, String email, String status, String error) {
+            return new Entry(line, email, null, new BulkRegistrationResultDTO(line, email, status, null, error));
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.cabos.komfortchain.login.spring.controller;
 
+import com.cabos.komfortchain.login.domain.exception.AccountLockedException;
 import com.cabos.komfortchain.login.domain.exception.InvalidCredentialsException;
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
 import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
 import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RefreshTokenUseCase;
 import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import com.cabos.komfortchain.login.domain.usecase.RevokeTokenUseCase;
 import com.cabos.komfortchain.login.spring.dto.*;
+import com.cabos.komfortchain.login.spring.security.PasswordHashingUnavailableException;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,11 +23,17 @@ public class LoginController {
 
     private final RegisterUserUseCase registerUserUseCase;
     private final AuthenticateUserUseCase authenticateUserUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
+    private final RevokeTokenUseCase revokeTokenUseCase;
 
-    public LoginController(RegisterUserUseCase registerUserUseCase,
-                           AuthenticateUserUseCase authenticateUserUseCase) {
+    public LoginController(@Qualifier("registerUserUseCase") RegisterUserUseCase registerUserUseCase,
+                           AuthenticateUserUseCase authenticateUserUseCase,
+                           RefreshTokenUseCase refreshTokenUseCase,
+                           RevokeTokenUseCase revokeTokenUseCase) {
         this.registerUserUseCase = registerUserUseCase;
         this.authenticateUserUseCase = authenticateUserUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
+        this.revokeTokenUseCase = revokeTokenUseCase;
     }
 
     @PostMapping("/register")
@@ -35,17 +48,53 @@ public class LoginController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Stores a refresh token only when the client asks for one with {@code rememberMe}.
+     */
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO request) {
         var result = authenticateUserUseCase.authenticate(request.email(), request.password());
+        if (!request.rememberMe()) {
+            return ResponseEntity.ok(new LoginResponseDTO(
+                    result.token(), "Bearer", result.expiresAtEpochSeconds(), null, null));
+        }
+        var refreshToken = refreshTokenUseCase.issue(result.user().id());
         var response = new LoginResponseDTO(
                 result.token(),
                 "Bearer",
-                result.expiresAtEpochSeconds()
+                result.expiresAtEpochSeconds(),
+                refreshToken.token(),
+                refreshToken.expiresAtEpochSeconds()
         );
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token; the presented one
+     * stops working. No password check, so no BCrypt.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDTO> refresh(@Valid @RequestBody RefreshRequestDTO request) {
+        var result = refreshTokenUseCase.refresh(request.refreshToken());
+        var response = new LoginResponseDTO(
+                result.accessToken().token(),
+                "Bearer",
+                result.accessToken().claims().expiresAtEpochSeconds(),
+                result.refreshToken().token(),
+                result.refreshToken().expiresAtEpochSeconds()
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Revokes the bearer token the request was authenticated with.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        revokeTokenUseCase.revoke(authorization.substring("Bearer ".length()));
+        return ResponseEntity.noContent().build();
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<String> handleUserExists(UserAlreadyExistsException ex) {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
@@ -55,4 +104,23 @@ public class LoginController {
     public ResponseEntity<String> handleInvalidCredentials(InvalidCredentialsException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ex.getMessage());
     }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<String> handleInvalidToken(InvalidTokenException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(AccountLockedException.class)
+    public ResponseEntity<String> handleAccountLocked(AccountLockedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<String> handleHashingUnavailable(PasswordHashingUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
 }
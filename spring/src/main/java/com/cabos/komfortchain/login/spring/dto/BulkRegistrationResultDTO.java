@@ -0,0 +1,13 @@
+package com.cabos.komfortchain.login.spring.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRegistrationResultDTO(
+        long line,
+        String email,
+        String status,
+        String id,
+        String error
+) {
+}
@@ -3,8 +3,12 @@ package com.cabos.komfortchain.login.spring.dto;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+/**
+ * @param rememberMe also issue a refresh token; off by default, so a plain login writes nothing
+ */
 public record LoginRequestDTO(
         @Email @NotBlank String email,
-        @NotBlank String password
+        @NotBlank String password,
+        boolean rememberMe
 ) {
 }
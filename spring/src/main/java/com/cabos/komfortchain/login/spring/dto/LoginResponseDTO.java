@@ -1,8 +1,16 @@
 package com.cabos.komfortchain.login.spring.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * {@code refreshToken} and {@code refreshExpiresAt} are omitted when no refresh token was requested.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record LoginResponseDTO(
         String accessToken,
         String tokenType,
-        long expiresAt
+        long expiresAt,
+        String refreshToken,
+        Long refreshExpiresAt
 ) {
 }
@@ -0,0 +1,8 @@
+package com.cabos.komfortchain.login.spring.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RevokeTokenRequestDTO(
+        @NotBlank String token
+) {
+}
@@ -1,8 +1,11 @@
 package com.cabos.komfortchain.login.spring.mapper;
 
+import com.cabos.komfortchain.login.domain.model.RoleSets;
 import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
 import com.cabos.komfortchain.login.spring.dto.UserResponseDTO;
 import com.cabos.komfortchain.login.spring.persistence.entity.UserEntity;
+import org.bson.Document;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,6 +19,7 @@ public class UserMapper {
         entity.setEmail(user.email());
         entity.setPasswordHash(user.passwordHash());
         entity.setRoles(user.roles());
+        entity.setRoleMask(RoleSets.toMask(user.roles()));
         entity.setActive(user.active());
         return entity;
     }
@@ -32,6 +36,26 @@ public class UserMapper {
         );
     }
 
+    public UserCredentials toCredentials(UserEntity entity) {
+        if (entity == null) return null;
+        return new UserCredentials(
+                entity.getId(),
+                entity.getPasswordHash(),
+                RoleSets.canonical(entity.getRoles()),
+                entity.isActive()
+        );
+    }
+
+    public UserCredentials toCredentials(Document projection) {
+        if (projection == null) return null;
+        return new UserCredentials(
+                projection.getString("_id"),
+                projection.getString("passwordHash"),
+                RoleSets.fromMask(projection.getInteger("roleMask")),
+                projection.getBoolean("active", false)
+        );
+    }
+
     public UserResponseDTO toResponseDTO(User user) {
         if (user == null) return null;
         return new UserResponseDTO(user.id(), user.name(), user.email());
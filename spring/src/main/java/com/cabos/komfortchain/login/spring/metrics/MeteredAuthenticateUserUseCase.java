@@ -0,0 +1,21 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MeteredAuthenticateUserUseCase implements AuthenticateUserUseCase {
+
+    private final AuthenticateUserUseCase delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredAuthenticateUserUseCase(AuthenticateUserUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.USE_CASE, "usecase", "authenticate-user",
+                "authenticate");
+    }
+
+    @Override
+    public AuthenticationResult authenticate(String email, String rawPassword) {
+        return metrics.record("authenticate", () -> delegate.authenticate(email, rawPassword));
+    }
+}
@@ -0,0 +1,41 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Times hashing as callers see it, which includes any wait in the bounded hashing pool.
+ */
+public class MeteredPasswordEncoder implements PasswordEncoderPort, AutoCloseable {
+
+    private final PasswordEncoderPort delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredPasswordEncoder(PasswordEncoderPort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.PORT, "port", "password-encoder",
+                "encode", "matches");
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return metrics.record("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return metrics.record("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.usecase.RefreshTokenUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MeteredRefreshTokenUseCase implements RefreshTokenUseCase {
+
+    private final RefreshTokenUseCase delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredRefreshTokenUseCase(RefreshTokenUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.USE_CASE, "usecase", "refresh-token",
+                "issue", "refresh");
+    }
+
+    @Override
+    public IssuedRefreshToken issue(String userId) {
+        return metrics.record("issue", () -> delegate.issue(userId));
+    }
+
+    @Override
+    public RefreshResult refresh(String refreshToken) {
+        return metrics.record("refresh", () -> delegate.refresh(refreshToken));
+    }
+}
@@ -0,0 +1,30 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.usecase.RegisterUserUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+public class MeteredRegisterUserUseCase implements RegisterUserUseCase {
+
+    private final RegisterUserUseCase delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredRegisterUserUseCase(RegisterUserUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.USE_CASE, "usecase", "register-user",
+                "register", "registerAll");
+    }
+
+    @Override
+    public User register(RegisterUserCommand command) {
+        return metrics.record("register", () -> delegate.register(command));
+    }
+
+    @Override
+    public List<RegistrationOutcome> registerAll(List<RegisterUserCommand> commands, Executor hashingExecutor) {
+        return metrics.record("registerAll", () -> delegate.registerAll(commands, hashingExecutor));
+    }
+}
@@ -0,0 +1,77 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.model.IssuedToken;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Set;
+
+public class MeteredTokenProvider implements TokenProviderPort {
+
+    private final TokenProviderPort delegate;
+    private final OperationMetrics metrics;
+    private final OperationMetrics.Operation parseToken;
+    private final OperationMetrics.Operation validateToken;
+
+    public MeteredTokenProvider(TokenProviderPort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.PORT, "port", "token-provider",
+                "generateToken", "issueToken", "parseToken", "validateToken", "getSubject", "getExpiration");
+        this.parseToken = metrics.operation("parseToken");
+        this.validateToken = metrics.operation("validateToken");
+    }
+
+    @Override
+    public String generateToken(String subject, Set<Role> roles) {
+        return metrics.record("generateToken", () -> delegate.generateToken(subject, roles));
+    }
+
+    @Override
+    public IssuedToken issueToken(String subject, Set<Role> roles) {
+        return metrics.record("issueToken", () -> delegate.issueToken(subject, roles));
+    }
+
+    /**
+     * Runs on every authenticated request, so it is timed inline. A rejected token comes back as
+     * invalid claims rather than an exception and is counted as {@code invalid_token}.
+     */
+    @Override
+    public TokenClaims parseToken(String token) {
+        long start = System.nanoTime();
+        TokenClaims claims;
+        try {
+            claims = delegate.parseToken(token);
+        } catch (RuntimeException e) {
+            parseToken.failed(start, e);
+            throw e;
+        }
+        parseToken.completed(start, claims.valid() ? OperationMetrics.SUCCESS : OperationMetrics.INVALID_TOKEN);
+        return claims;
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        long start = System.nanoTime();
+        boolean valid;
+        try {
+            valid = delegate.validateToken(token);
+        } catch (RuntimeException e) {
+            validateToken.failed(start, e);
+            throw e;
+        }
+        validateToken.completed(start, valid ? OperationMetrics.SUCCESS : OperationMetrics.INVALID_TOKEN);
+        return valid;
+    }
+
+    @Override
+    public String getSubject(String token) {
+        return metrics.record("getSubject", () -> delegate.getSubject(token));
+    }
+
+    @Override
+    public long getExpiration(String token) {
+        return metrics.record("getExpiration", () -> delegate.getExpiration(token));
+    }
+}
@@ -0,0 +1,62 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+
+public class MeteredUserRepository implements UserRepositoryPort {
+
+    private final UserRepositoryPort delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredUserRepository(UserRepositoryPort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.PORT, "port", "user-repository",
+                "findByEmail", "findCredentialsByEmail", "findCredentialsById", "existsByEmail",
+                "save", "insert", "insertAll", "updatePasswordHash");
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return metrics.record("findByEmail", () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        return metrics.record("findCredentialsByEmail", () -> delegate.findCredentialsByEmail(email));
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsById(String id) {
+        return metrics.record("findCredentialsById", () -> delegate.findCredentialsById(id));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return metrics.record("existsByEmail", () -> delegate.existsByEmail(email));
+    }
+
+    @Override
+    public User save(User user) {
+        return metrics.record("save", () -> delegate.save(user));
+    }
+
+    @Override
+    public User insert(User user) {
+        return metrics.record("insert", () -> delegate.insert(user));
+    }
+
+    @Override
+    public List<User> insertAll(List<User> users) {
+        return metrics.record("insertAll", () -> delegate.insertAll(users));
+    }
+
+    @Override
+    public void updatePasswordHash(String id, String passwordHash) {
+        metrics.run("updatePasswordHash", () -> delegate.updatePasswordHash(id, passwordHash));
+    }
+}
@@ -0,0 +1,26 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.usecase.ValidateTokenUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MeteredValidateTokenUseCase implements ValidateTokenUseCase {
+
+    private final ValidateTokenUseCase delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredValidateTokenUseCase(ValidateTokenUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, MetricNames.USE_CASE, "usecase", "validate-token", "validate");
+    }
+
+    @Override
+    public String validate(String token) {
+        return validateClaims(token).subject();
+    }
+
+    @Override
+    public TokenClaims validateClaims(String token) {
+        return metrics.record("validate", () -> delegate.validateClaims(token));
+    }
+}
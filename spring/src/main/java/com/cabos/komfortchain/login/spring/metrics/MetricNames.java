@@ -0,0 +1,10 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+public final class MetricNames {
+
+    public static final String USE_CASE = "login.usecase";
+    public static final String PORT = "login.port";
+
+    private MetricNames() {
+    }
+}
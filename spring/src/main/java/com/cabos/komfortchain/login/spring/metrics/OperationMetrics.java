@@ -0,0 +1,137 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.exception.AccountLockedException;
+import com.cabos.komfortchain.login.domain.exception.InvalidCredentialsException;
+import com.cabos.komfortchain.login.domain.exception.InvalidTokenException;
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.spring.security.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times calls of one component into a single meter, tagged with the operation and its outcome.
+ * The timer count doubles as the per-outcome counter.
+ * <p>
+ * Every operation/outcome timer is registered up front, so timing a call is two {@link System#nanoTime}
+ * reads and an array lookup. Hot paths hold an {@link Operation} and time inline, without a lambda.
+ */
+public class OperationMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String INVALID_CREDENTIALS = "invalid_credentials";
+    public static final String INVALID_TOKEN = "invalid_token";
+    public static final String DUPLICATE = "duplicate";
+    public static final String UNAVAILABLE = "unavailable";
+    public static final String LOCKED = "locked";
+    public static final String ERROR = "error";
+
+    static final List<String> OUTCOMES =
+            List.of(SUCCESS, INVALID_CREDENTIALS, INVALID_TOKEN, DUPLICATE, UNAVAILABLE, LOCKED, ERROR);
+
+    private final Map<String, Operation> operations;
+
+    public OperationMetrics(MeterRegistry registry,
+                            String metricName,
+                            String componentTag,
+                            String component,
+                            String... operations) {
+        Map<String, Operation> byName = new HashMap<>();
+        for (String operation : operations) {
+            Timer[] timers = new Timer[OUTCOMES.size()];
+            for (int i = 0; i < timers.length; i++) {
+                timers[i] = Timer.builder(metricName)
+                        .tag(componentTag, component)
+                        .tag("operation", operation)
+                        .tag("outcome", OUTCOMES.get(i))
+                        .register(registry);
+            }
+            byName.put(operation, new Operation(timers));
+        }
+        this.operations = Map.copyOf(byName);
+    }
+
+    public Operation operation(String name) {
+        Operation operation = operations.get(name);
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation not registered: " + name);
+        }
+        return operation;
+    }
+
+    public <T> T record(String operation, Supplier<T> call) {
+        return operation(operation).record(call);
+    }
+
+    public void run(String operation, Runnable call) {
+        Operation timed = operation(operation);
+        long start = System.nanoTime();
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            timed.failed(start, e);
+            throw e;
+        }
+        timed.completed(start, SUCCESS);
+    }
+
+    static String outcomeOf(RuntimeException e) {
+        if (e instanceof InvalidCredentialsException) {
+            return INVALID_CREDENTIALS;
+        }
+        if (e instanceof InvalidTokenException) {
+            return INVALID_TOKEN;
+        }
+        if (e instanceof UserAlreadyExistsException) {
+            return DUPLICATE;
+        }
+        if (e instanceof PasswordHashingUnavailableException) {
+            return UNAVAILABLE;
+        }
+        if (e instanceof AccountLockedException) {
+            return LOCKED;
+        }
+        return ERROR;
+    }
+
+    /**
+     * The timers of one operation, indexed like {@link #OUTCOMES}.
+     */
+    public static final class Operation {
+
+        private final Timer[] timers;
+
+        private Operation(Timer[] timers) {
+            this.timers = timers;
+        }
+
+        public <T> T record(Supplier<T> call) {
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = call.get();
+            } catch (RuntimeException e) {
+                failed(start, e);
+                throw e;
+            }
+            completed(start, SUCCESS);
+            return result;
+        }
+
+        /**
+         * @param outcome one of the {@link OperationMetrics} outcome constants
+         */
+        public void completed(long startNanos, String outcome) {
+            timers[OUTCOMES.indexOf(outcome)].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void failed(long startNanos, RuntimeException e) {
+            completed(startNanos, outcomeOf(e));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.shared.audit.AuditEventBuffer;
+import com.cabos.komfortchain.login.shared.configuration.AuditProperties;
+import com.cabos.komfortchain.login.spring.persistence.entity.AuditEventEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes audit events to the {@code audit_events} collection with one {@code insertMany} per batch,
+ * off the request path, through an {@link AuditEventBuffer}.
+ */
+@Component
+@Profile("!in-memory")
+public class AuditEventAdapter implements AuditEventPort, AutoCloseable {
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditEventBuffer buffer;
+
+    public AuditEventAdapter(MongoTemplate mongoTemplate,
+                             AuditProperties auditProperties,
+                             MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.buffer = new AuditEventBuffer("audit-writer", this::insert, auditProperties, meterRegistry);
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        buffer.record(event);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        buffer.close();
+    }
+
+    private void insert(List<AuditEvent> events) {
+        List<AuditEventEntity> entities = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            AuditEventEntity entity = new AuditEventEntity();
+            entity.setType(event.type().name());
+            entity.setSuccess(event.success());
+            entity.setUserId(event.userId());
+            entity.setEmail(event.email());
+            entity.setReason(event.reason());
+            entity.setTimestamp(new Date(event.timestampEpochMillis()));
+            entities.add(entity);
+        }
+        mongoTemplate.insert(entities, AuditEventEntity.class);
+    }
+}
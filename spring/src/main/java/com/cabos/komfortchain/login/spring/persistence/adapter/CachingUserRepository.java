@@ -0,0 +1,229 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded in-process cache in front of a {@link UserRepositoryPort}, keyed by email.
+ * <p>
+ * Emails that do not exist are remembered in a separate, short-lived negative cache so repeated
+ * lookups of random addresses stop reaching the database. Every write through this decorator
+ * invalidates the affected email immediately; other instances see the change once their TTL expires.
+ * Writes that only carry the user id find the email through a small id index filled alongside the
+ * two caches, so they evict by key as well.
+ * <p>
+ * A read that raced with a write must not cache what it read before the write, e.g. a miss for an
+ * email that was just registered. Every write bumps a stamp for its email (or for all emails, when
+ * the email may be unknown) before invalidating, and a read caches its result only if the stamp it
+ * saw before going to the delegate is unchanged. The check runs inside {@code asMap().compute}, so it
+ * cannot interleave with the invalidation of the same key.
+ */
+public class CachingUserRepository implements UserRepositoryPort {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final UserRepositoryPort delegate;
+    private final Cache<String, User> users;
+    private final Cache<String, UserCredentials> credentials;
+    private final Cache<String, Boolean> missing;
+    private final Cache<String, String> emailsById;
+    private final AtomicLongArray writeStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public CachingUserRepository(UserRepositoryPort delegate,
+                                 long maximumSize,
+                                 Duration ttl,
+                                 long negativeMaximumSize,
+                                 Duration negativeTtl) {
+        this.delegate = delegate;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.credentials = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        this.emailsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize * 2)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        User cached = users.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (isKnownMissing(email)) {
+            return Optional.empty();
+        }
+
+        long stamp = stampOf(email);
+        Optional<User> user = delegate.findByEmail(email);
+        user.ifPresentOrElse(found -> {
+            emailsById.put(found.id(), email);
+            cacheIfUnchanged(users, email, stamp, found);
+        }, () -> cacheIfUnchanged(missing, email, stamp, Boolean.TRUE));
+        return user;
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        UserCredentials cached = credentials.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (isKnownMissing(email)) {
+            return Optional.empty();
+        }
+
+        long stamp = stampOf(email);
+        Optional<UserCredentials> found = delegate.findCredentialsByEmail(email);
+        found.ifPresentOrElse(value -> {
+            emailsById.put(value.id(), email);
+            cacheIfUnchanged(credentials, email, stamp, value);
+        }, () -> cacheIfUnchanged(missing, email, stamp, Boolean.TRUE));
+        return found;
+    }
+
+    /**
+     * Not cached: callers look a user up by id to see role and status changes as soon as they are written.
+     */
+    @Override
+    public Optional<UserCredentials> findCredentialsById(String id) {
+        return delegate.findCredentialsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        if (users.getIfPresent(email) != null || credentials.getIfPresent(email) != null) {
+            return true;
+        }
+        if (isKnownMissing(email)) {
+            return false;
+        }
+
+        long stamp = stampOf(email);
+        boolean exists = delegate.existsByEmail(email);
+        if (!exists) {
+            cacheIfUnchanged(missing, email, stamp, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * The previous email of the user may not be in the id index, so every stamp is bumped.
+     */
+    @Override
+    public User save(User user) {
+        try {
+            return delegate.save(user);
+        } finally {
+            stampAll();
+            invalidate(user.email());
+            invalidateById(user.id());
+        }
+    }
+
+    @Override
+    public User insert(User user) {
+        try {
+            return delegate.insert(user);
+        } finally {
+            stamp(user.email());
+            invalidate(user.email());
+        }
+    }
+
+    @Override
+    public List<User> insertAll(List<User> users) {
+        try {
+            return delegate.insertAll(users);
+        } finally {
+            users.forEach(user -> {
+                stamp(user.email());
+                invalidate(user.email());
+            });
+        }
+    }
+
+    /**
+     * A read may be caching this user's credentials before the id index knows its email, so every
+     * stamp is bumped.
+     */
+    @Override
+    public void updatePasswordHash(String id, String passwordHash) {
+        try {
+            delegate.updatePasswordHash(id, passwordHash);
+        } finally {
+            stampAll();
+            invalidateById(id);
+        }
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, "users.by-email");
+        CaffeineCacheMetrics.monitor(registry, credentials, "users.credentials");
+        CaffeineCacheMetrics.monitor(registry, missing, "users.missing");
+    }
+
+    private <V> void cacheIfUnchanged(Cache<String, V> cache, String email, long stamp, V value) {
+        cache.asMap().compute(email, (key, current) -> stampOf(email) == stamp ? value : current);
+    }
+
+    private long stampOf(String email) {
+        return writeStamps.get(stripe(email));
+    }
+
+    private void stamp(String email) {
+        writeStamps.incrementAndGet(stripe(email));
+    }
+
+    private void stampAll() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            writeStamps.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String email) {
+        return email.hashCode() & (STAMP_STRIPES - 1);
+    }
+
+    private boolean isKnownMissing(String email) {
+        return missing.getIfPresent(email) != null;
+    }
+
+    /**
+     * Also covers an email changed by the write, which {@link #invalidate} alone would leave cached.
+     */
+    private void invalidateById(String id) {
+        String email = emailsById.getIfPresent(id);
+        if (email != null) {
+            invalidate(email);
+        }
+    }
+
+    private void invalidate(String email) {
+        users.invalidate(email);
+        credentials.invalidate(email);
+        missing.invalidate(email);
+    }
+}
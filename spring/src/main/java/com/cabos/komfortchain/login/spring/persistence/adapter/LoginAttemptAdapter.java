@@ -0,0 +1,128 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.port.LoginAttemptPort;
+import com.cabos.komfortchain.login.shared.configuration.LockoutProperties;
+import com.cabos.komfortchain.login.shared.security.FailedLoginTracker;
+import com.cabos.komfortchain.login.spring.persistence.entity.LoginAttemptEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares failure counters between instances through the {@code login_attempts} collection
+ * ({@code lockout.store=mongo}). Counting happens in Mongo with an atomic {@code $inc}; the lock check
+ * reads a local {@link FailedLoginTracker} that learns about locks from this instance's own failures
+ * and from a poll every {@code lockout.sync-interval}, so logins never wait on Mongo for it.
+ * <p>
+ * Documents expire through a TTL index on {@code expiresAt}, one failure window after the last
+ * failure or the end of the lock. A successful login clears the counter only if this instance has
+ * seen failures for the account; counters left elsewhere expire with their window.
+ * Mongo errors fail open: a failure that cannot be counted is logged and the login answered normally.
+ */
+public class LoginAttemptAdapter implements LoginAttemptPort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAttemptAdapter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final FailedLoginTracker tracker;
+    private final long failureWindowMillis;
+    private final long syncIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private long syncedUntil;
+
+    public LoginAttemptAdapter(MongoTemplate mongoTemplate, FailedLoginTracker tracker, LockoutProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.tracker = tracker;
+        this.failureWindowMillis = properties.getFailureWindow().toMillis();
+        this.syncIntervalMillis = properties.getSyncInterval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-attempt-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::syncQuietly, 0, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long lockedForSeconds(String email) {
+        return tracker.lockedForSeconds(email);
+    }
+
+    @Override
+    public void recordFailure(String email) {
+        String key = FailedLoginTracker.key(email);
+        long now = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where("_id").is(key));
+        try {
+            LoginAttemptEntity entity = mongoTemplate.findAndModify(
+                    query,
+                    new Update()
+                            .inc("failures", 1)
+                            .set("lastFailureAt", new Date(now))
+                            .max("expiresAt", new Date(now + failureWindowMillis)),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    LoginAttemptEntity.class);
+            int failures = entity == null ? 1 : entity.getFailures();
+            long lockedUntil = 0;
+            if (failures >= tracker.getMaxFailures()) {
+                lockedUntil = now + tracker.lockDurationMillis(failures);
+                mongoTemplate.updateFirst(query,
+                        new Update()
+                                .max("lockedUntil", new Date(lockedUntil))
+                                .max("expiresAt", new Date(lockedUntil + failureWindowMillis)),
+                        LoginAttemptEntity.class);
+            }
+            tracker.apply(email, failures, lockedUntil, now);
+        } catch (RuntimeException e) {
+            log.warn("Could not record a failed login", e);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        if (!tracker.reset(email)) {
+            return;
+        }
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(FailedLoginTracker.key(email))),
+                    LoginAttemptEntity.class);
+        } catch (RuntimeException e) {
+            log.warn("Could not clear failed logins", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Login lock sync failed, retrying in {}ms", syncIntervalMillis, e);
+        }
+    }
+
+    /**
+     * Pulls locks set by other instances, overlapping the previous poll by one interval.
+     */
+    private void sync() {
+        long now = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where("lockedUntil").gt(new Date(now))
+                .and("lastFailureAt").gte(new Date(syncedUntil - syncIntervalMillis)));
+        for (LoginAttemptEntity entity : mongoTemplate.find(query, LoginAttemptEntity.class)) {
+            tracker.apply(entity.getId(), entity.getFailures(), entity.getLockedUntil().getTime(), now);
+        }
+        syncedUntil = now;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.model.RefreshTokenGrant;
+import com.cabos.komfortchain.login.domain.port.RefreshTokenPort;
+import com.cabos.komfortchain.login.spring.persistence.entity.RefreshTokenEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * One document per live refresh token, keyed by its hash. A refresh is a single
+ * {@code findAndRemove} on {@code _id}; expired tokens are removed by a TTL index on {@code expiresAt},
+ * and a user's tokens are revoked together through the {@code userId} index.
+ */
+@Component
+@Profile("!in-memory")
+public class RefreshTokenAdapter implements RefreshTokenPort {
+
+    private final MongoTemplate mongoTemplate;
+
+    public RefreshTokenAdapter(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void store(String tokenHash, RefreshTokenGrant grant) {
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setId(tokenHash);
+        entity.setUserId(grant.userId());
+        entity.setExpiresAt(Date.from(Instant.ofEpochSecond(grant.expiresAtEpochSeconds())));
+        mongoTemplate.insert(entity);
+    }
+
+    @Override
+    public Optional<RefreshTokenGrant> consume(String tokenHash) {
+        RefreshTokenEntity entity = mongoTemplate.findAndRemove(
+                Query.query(Criteria.where("_id").is(tokenHash)), RefreshTokenEntity.class);
+        if (entity == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshTokenGrant(
+                entity.getUserId(),
+                entity.getExpiresAt().toInstant().getEpochSecond()
+        ));
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        mongoTemplate.remove(Query.query(Criteria.where("userId").is(userId)), RefreshTokenEntity.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.port.TokenRevocationPort;
+import com.cabos.komfortchain.login.domain.token.RevocationList;
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import com.cabos.komfortchain.login.spring.persistence.entity.RevokedTokenEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers revocation checks from a {@link RevocationList} and persists revocations to the
+ * {@code revoked_tokens} collection, where a TTL index removes them once the token has expired.
+ * <p>
+ * The list is loaded from Mongo before the service reports ready, then polled at
+ * {@code revocation.sync-interval} for revocations made by other instances; that interval bounds
+ * how long a token revoked elsewhere stays usable here.
+ */
+@Component
+@Profile("!in-memory")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TokenRevocationAdapter implements TokenRevocationPort, ApplicationRunner, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationAdapter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final RevocationList revocationList;
+    private final long syncIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private Instant syncedUntil = Instant.EPOCH;
+
+    public TokenRevocationAdapter(MongoTemplate mongoTemplate,
+                                  RevocationProperties revocationProperties,
+                                  MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.revocationList = new RevocationList(
+                revocationProperties.getExpectedRevocations(),
+                revocationProperties.getFalsePositiveRate()
+        );
+        this.syncIntervalMillis = revocationProperties.getSyncInterval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("login.revocation.size", revocationList, RevocationList::size).register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(long tokenId, long expiresAtEpochSeconds) {
+        RevokedTokenEntity entity = new RevokedTokenEntity();
+        entity.setId(tokenId);
+        entity.setExpiresAt(Date.from(Instant.ofEpochSecond(expiresAtEpochSeconds)));
+        entity.setRevokedAt(new Date());
+        mongoTemplate.save(entity);
+        revocationList.add(tokenId, expiresAtEpochSeconds);
+    }
+
+    @Override
+    public boolean isRevoked(long tokenId) {
+        return revocationList.contains(tokenId);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        sync();
+        log.info("Loaded {} revoked tokens", revocationList.size());
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Revoked token sync failed, retrying in {}ms", syncIntervalMillis, e);
+        }
+    }
+
+    /**
+     * Re-reads one sync interval behind the previous watermark so that clock skew between
+     * instances and writes committed late are not missed; adding an id twice is harmless.
+     */
+    private void sync() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("expiresAt").gt(Date.from(now))
+                .and("revokedAt").gte(Date.from(syncedUntil.minusMillis(syncIntervalMillis))));
+        query.fields().include("expiresAt");
+        for (RevokedTokenEntity entity : mongoTemplate.find(query, RevokedTokenEntity.class)) {
+            revocationList.add(entity.getId(), entity.getExpiresAt().toInstant().getEpochSecond());
+        }
+        revocationList.purgeExpired(now.getEpochSecond());
+        syncedUntil = now;
+    }
+}
@@ -0,0 +1,47 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.spring.mapper.UserMapper;
+import com.cabos.komfortchain.login.spring.persistence.entity.UserEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Reads the {@code users} collection in {@code _id} order through a server-side cursor, one
+ * batch at a time. Password hashes are never read.
+ */
+@Component
+@Profile("!in-memory")
+public class UserExportAdapter {
+
+    private static final int CURSOR_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final UserMapper userMapper;
+
+    public UserExportAdapter(MongoTemplate mongoTemplate, UserMapper userMapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.userMapper = userMapper;
+    }
+
+    /**
+     * The returned stream holds an open cursor and must be closed.
+     *
+     * @param afterId resume after this id (exclusive), or {@code null} to start from the beginning
+     */
+    public Stream<User> streamAfter(String afterId) {
+        Query query = afterId == null || afterId.isBlank()
+                ? new Query()
+                : Query.query(Criteria.where("_id").gt(afterId));
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).cursorBatchSize(CURSOR_BATCH_SIZE);
+        query.fields().exclude("passwordHash");
+
+        return mongoTemplate.stream(query, UserEntity.class).map(userMapper::toDomain);
+    }
+}
@@ -1,22 +1,47 @@
 package com.cabos.komfortchain.login.spring.persistence.adapter;
 
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.model.RoleSets;
 import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
 import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
 import com.cabos.komfortchain.login.spring.mapper.UserMapper;
 import com.cabos.komfortchain.login.spring.persistence.entity.UserEntity;
 import com.cabos.komfortchain.login.spring.persistence.repository.SpringDataUserRepository;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
+@Profile("!in-memory")
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
+    public static final String CREDENTIALS_INDEX = "email_credentials";
+
     private final SpringDataUserRepository repository;
+    private final MongoTemplate mongoTemplate;
     private final UserMapper userMapper;
 
-    public UserRepositoryAdapter(SpringDataUserRepository repository, UserMapper userMapper) {
+    public UserRepositoryAdapter(SpringDataUserRepository repository,
+                                 MongoTemplate mongoTemplate,
+                                 UserMapper userMapper) {
         this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
         this.userMapper = userMapper;
     }
 
@@ -25,6 +50,39 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return repository.findByEmail(email).map(userMapper::toDomain);
     }
 
+    /**
+     * Reads only the fields of {@link #CREDENTIALS_INDEX}, so Mongo answers from the index without
+     * fetching the document. Documents written before {@code roleMask} existed fall back to a full
+     * read and get the field backfilled.
+     */
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        Query query = Query.query(Criteria.where("email").is(email)).withHint(CREDENTIALS_INDEX);
+        query.fields().include("_id", "passwordHash", "roleMask", "active");
+
+        Document projection = mongoTemplate.findOne(query, Document.class, UserEntity.COLLECTION);
+        if (projection == null) {
+            return Optional.empty();
+        }
+        if (projection.get("roleMask") != null) {
+            return Optional.of(userMapper.toCredentials(projection));
+        }
+
+        return repository.findByEmail(email).map(entity -> {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(entity.getId())),
+                    Update.update("roleMask", RoleSets.toMask(entity.getRoles())),
+                    UserEntity.class
+            );
+            return userMapper.toCredentials(entity);
+        });
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsById(String id) {
+        return repository.findById(id).map(userMapper::toCredentials);
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return repository.existsByEmail(email);
@@ -36,4 +94,58 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         UserEntity saved = repository.save(entity);
         return userMapper.toDomain(saved);
     }
+
+    @Override
+    public User insert(User user) {
+        try {
+            UserEntity inserted = repository.insert(userMapper.toEntity(user));
+            return userMapper.toDomain(inserted);
+        } catch (DuplicateKeyException e) {
+            throw new UserAlreadyExistsException(user.email());
+        }
+    }
+
+    /**
+     * One unordered bulk insert: Mongo keeps going past duplicate-key failures, which are then
+     * reported per index instead of aborting the batch.
+     */
+    @Override
+    public List<User> insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserEntity.class);
+        for (User user : users) {
+            bulk.insert(userMapper.toEntity(user));
+        }
+
+        try {
+            bulk.execute();
+            return users;
+        } catch (BulkOperationException e) {
+            Set<Integer> duplicates = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+                duplicates.add(error.getIndex());
+            }
+            List<User> inserted = new ArrayList<>(users.size() - duplicates.size());
+            for (int i = 0; i < users.size(); i++) {
+                if (!duplicates.contains(i)) {
+                    inserted.add(users.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    @Override
+    public void updatePasswordHash(String id, String passwordHash) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id)),
+                Update.update("passwordHash", passwordHash),
+                UserEntity.class
+        );
+    }
 }
@@ -0,0 +1,66 @@
+package com.cabos.komfortchain.login.spring.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Document(collection = LoginAttemptEntity.COLLECTION)
+public class LoginAttemptEntity {
+
+    public static final String COLLECTION = "login_attempts";
+
+    /**
+     * Lower-cased email.
+     */
+    @Id
+    private String id;
+
+    private int failures;
+
+    private Date lastFailureAt;
+
+    private Date lockedUntil;
+
+    private Date expiresAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public void setFailures(int failures) {
+        this.failures = failures;
+    }
+
+    public Date getLastFailureAt() {
+        return lastFailureAt;
+    }
+
+    public void setLastFailureAt(Date lastFailureAt) {
+        this.lastFailureAt = lastFailureAt;
+    }
+
+    public Date getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Date lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Date expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
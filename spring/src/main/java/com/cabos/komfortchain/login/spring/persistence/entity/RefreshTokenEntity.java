@@ -0,0 +1,46 @@
+package com.cabos.komfortchain.login.spring.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Document(collection = RefreshTokenEntity.COLLECTION)
+public class RefreshTokenEntity {
+
+    public static final String COLLECTION = "refresh_tokens";
+
+    /**
+     * SHA-256 of the refresh token.
+     */
+    @Id
+    private String id;
+
+    private String userId;
+
+    private Date expiresAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Date expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
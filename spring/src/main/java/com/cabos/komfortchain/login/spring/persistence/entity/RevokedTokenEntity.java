@@ -0,0 +1,43 @@
+package com.cabos.komfortchain.login.spring.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Document(collection = RevokedTokenEntity.COLLECTION)
+public class RevokedTokenEntity {
+
+    public static final String COLLECTION = "revoked_tokens";
+
+    @Id
+    private Long id;
+
+    private Date expiresAt;
+
+    private Date revokedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Date expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Date getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Date revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
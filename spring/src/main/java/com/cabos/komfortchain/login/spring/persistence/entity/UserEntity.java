@@ -2,24 +2,30 @@ package com.cabos.komfortchain.login.spring.persistence.entity;
 
 import com.cabos.komfortchain.login.domain.model.Role;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Set;
 
-@Document(collection = "users")
+@Document(collection = UserEntity.COLLECTION)
 public class UserEntity {
 
+    public static final String COLLECTION = "users";
+
     @Id
     private String id;
 
     private String name;
 
+    @Indexed(name = "email_unique", unique = true)
     private String email;
 
     private String passwordHash;
 
     private Set<Role> roles;
 
+    private Integer roleMask;
+
     private boolean active;
 
     public String getId() {
@@ -62,6 +68,14 @@ public class UserEntity {
         this.roles = roles;
     }
 
+    public Integer getRoleMask() {
+        return roleMask;
+    }
+
+    public void setRoleMask(Integer roleMask) {
+        this.roleMask = roleMask;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -0,0 +1,451 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.model.RoleSets;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.cabos.komfortchain.login.spring.configuration.UserStoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Embedded {@link UserRepositoryPort} for the {@code in-memory} profile: single-node edge
+ * deployments and load tests, with no Mongo.
+ * <p>
+ * Each user is one {@code byte[]} record (role mask, active flag, then the UTF-8 id, name, email
+ * and password hash), about 150 bytes for a typical user instead of a {@link User} graph of
+ * Strings. Two open-addressing tables map a 64-bit hash of the email (and of the id) to the record
+ * index, in parallel primitive arrays; a lookup hashes the email chars, probes linearly and compares
+ * them with the email bytes of the candidate record, so it allocates only what it returns.
+ * <p>
+ * Reads are lock-free. Writes are serialized: inserting checks for the email and adds it under the
+ * same lock, which makes {@link #insert} an atomic insert-if-absent. Saves replace the record with
+ * the same id; when the email changed, its old slot in the email table becomes a tombstone that
+ * lookups skip and the next rebuild drops. With {@code user-store.path} set, every write is appended
+ * to a log before it becomes visible (see {@link UserStoreFiles}).
+ */
+@Component
+@Profile("in-memory")
+public class CompactUserRepository implements UserRepositoryPort, AutoCloseable {
+
+    private static final int ROLE_MASK = 0;
+    private static final int ACTIVE = 1;
+    private static final int LENGTHS = 2;
+    private static final int HEADER = LENGTHS + 8;
+    private static final int MAX_FIELD = 0xFFFF;
+    private static final int TOMBSTONE = -1;
+
+    private static final Logger log = LoggerFactory.getLogger(CompactUserRepository.class);
+
+    private final Object writeLock = new Object();
+    private final UserStoreFiles files;
+    private volatile Tables tables;
+
+    public CompactUserRepository(UserStoreProperties properties) {
+        int capacity = Integer.highestOneBit(Math.max(16, properties.getInitialCapacity()) * 2 - 1);
+        this.tables = new Tables(capacity);
+        String path = properties.getPath();
+        if (path == null || path.isBlank()) {
+            this.files = null;
+            return;
+        }
+        this.files = new UserStoreFiles(Path.of(path), properties.isSyncWrites(),
+                properties.getCompactLogSize().toBytes());
+        try {
+            synchronized (writeLock) {
+                files.load(this::put);
+                files.compact(records());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load users from " + path, e);
+        }
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        byte[] record = findRecordByEmail(email);
+        return record == null ? Optional.empty() : Optional.of(toUser(record));
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        byte[] record = findRecordByEmail(email);
+        return record == null ? Optional.empty() : Optional.of(toCredentials(record));
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsById(String id) {
+        Tables t = tables;
+        int index = t.find(t.idKeys, t.idRefs, id, 0);
+        return index < 0 ? Optional.empty() : Optional.of(toCredentials(t.records.get(index)));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findRecordByEmail(email) != null;
+    }
+
+    /**
+     * Upserts by id.
+     *
+     * @throws UserAlreadyExistsException if another user already has the email
+     */
+    @Override
+    public User save(User user) {
+        if (!write(encode(user), true)) {
+            throw new UserAlreadyExistsException(user.email());
+        }
+        return user;
+    }
+
+    @Override
+    public User insert(User user) {
+        if (!write(encode(user), false)) {
+            throw new UserAlreadyExistsException(user.email());
+        }
+        return user;
+    }
+
+    @Override
+    public List<User> insertAll(List<User> users) {
+        List<User> inserted = new ArrayList<>(users.size());
+        for (User user : users) {
+            if (write(encode(user), false)) {
+                inserted.add(user);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public void updatePasswordHash(String id, String passwordHash) {
+        synchronized (writeLock) {
+            int index = tables.find(tables.idKeys, tables.idRefs, id, 0);
+            if (index < 0) {
+                return;
+            }
+            User user = toUser(tables.records.get(index));
+            write(encode(new User(user.id(), user.name(), user.email(), passwordHash, user.roles(), user.active())), true);
+        }
+    }
+
+    public int size() {
+        return tables.size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (files != null) {
+            synchronized (writeLock) {
+                files.close();
+            }
+        }
+    }
+
+    private byte[] findRecordByEmail(String email) {
+        Tables t = tables;
+        int index = t.find(t.emailKeys, t.emailRefs, email, 2);
+        return index < 0 ? null : t.records.get(index);
+    }
+
+    /**
+     * @return whether the record was stored; {@code false} when the email belongs to another user,
+     * or when the id or email exists and {@code replace} is off
+     */
+    private boolean write(byte[] record, boolean replace) {
+        synchronized (writeLock) {
+            Tables t = tables;
+            int byId = t.find(t.idKeys, t.idRefs, string(record, 0), 0);
+            int byEmail = t.find(t.emailKeys, t.emailRefs, string(record, 2), 2);
+            if (replace ? byEmail >= 0 && byEmail != byId : byId >= 0 || byEmail >= 0) {
+                return false;
+            }
+            if (files == null) {
+                put(record);
+                return true;
+            }
+            try {
+                files.append(record);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not persist user", e);
+            }
+            put(record);
+            compactIfNeeded();
+            return true;
+        }
+    }
+
+    /**
+     * The record is already in the log, so a failed compaction loses nothing: it is logged and, as
+     * the log is still over the threshold, tried again on the next write. Must hold {@link #writeLock}.
+     */
+    private void compactIfNeeded() {
+        if (!files.needsCompaction()) {
+            return;
+        }
+        try {
+            files.compact(records());
+        } catch (IOException e) {
+            log.warn("Could not compact the user log, retrying on the next write", e);
+        }
+    }
+
+    /**
+     * Upserts by id. Must hold {@link #writeLock}.
+     */
+    private void put(byte[] record) {
+        Tables t = tables;
+        int existing = t.find(t.idKeys, t.idRefs, string(record, 0), 0);
+        if (existing >= 0) {
+            replace(t, existing, record);
+            return;
+        }
+        if (t.size == t.records.length()) {
+            t = rebuild(t, t.records.length() * 2);
+        }
+        int index = t.size;
+        t.records.set(index, record);
+        t.index(t.idKeys, t.idRefs, hash(string(record, 0)), index);
+        t.index(t.emailKeys, t.emailRefs, hash(string(record, 2)), index);
+        t.size = index + 1;
+    }
+
+    /**
+     * Swaps the record in place. An email change moves the email to the new slot before the old
+     * one is tombstoned, so a concurrent lookup of either address finds this record or nothing.
+     */
+    private void replace(Tables t, int index, byte[] record) {
+        String oldEmail = string(t.records.get(index), 2);
+        String newEmail = string(record, 2);
+        t.records.set(index, record);
+        if (oldEmail.equals(newEmail)) {
+            return;
+        }
+        t.index(t.emailKeys, t.emailRefs, hash(newEmail), index);
+        t.unindex(t.emailKeys, t.emailRefs, hash(oldEmail), index);
+        if (t.size + t.tombstones > t.records.length()) {
+            rebuild(t, t.records.length());
+        }
+    }
+
+    private Tables rebuild(Tables old, int capacity) {
+        Tables rebuilt = new Tables(capacity);
+        for (int i = 0; i < old.size; i++) {
+            byte[] record = old.records.get(i);
+            rebuilt.records.set(i, record);
+            rebuilt.index(rebuilt.idKeys, rebuilt.idRefs, hash(string(record, 0)), i);
+            rebuilt.index(rebuilt.emailKeys, rebuilt.emailRefs, hash(string(record, 2)), i);
+        }
+        rebuilt.size = old.size;
+        tables = rebuilt;
+        return rebuilt;
+    }
+
+    private List<byte[]> records() {
+        Tables t = tables;
+        List<byte[]> records = new ArrayList<>(t.size);
+        for (int i = 0; i < t.size; i++) {
+            records.add(t.records.get(i));
+        }
+        return records;
+    }
+
+    private static byte[] encode(User user) {
+        byte[][] fields = {utf8(user.id()), utf8(user.name()), utf8(user.email()), utf8(user.passwordHash())};
+        int length = HEADER;
+        for (byte[] field : fields) {
+            if (field.length > MAX_FIELD) {
+                throw new IllegalArgumentException("User field exceeds " + MAX_FIELD + " bytes");
+            }
+            length += field.length;
+        }
+        byte[] record = new byte[length];
+        record[ROLE_MASK] = (byte) RoleSets.toMask(user.roles());
+        record[ACTIVE] = (byte) (user.active() ? 1 : 0);
+        int offset = HEADER;
+        for (int i = 0; i < fields.length; i++) {
+            record[LENGTHS + 2 * i] = (byte) (fields[i].length >>> 8);
+            record[LENGTHS + 2 * i + 1] = (byte) fields[i].length;
+            System.arraycopy(fields[i], 0, record, offset, fields[i].length);
+            offset += fields[i].length;
+        }
+        return record;
+    }
+
+    private static UserCredentials toCredentials(byte[] record) {
+        return new UserCredentials(
+                string(record, 0),
+                string(record, 3),
+                RoleSets.fromMask(record[ROLE_MASK] & 0xFF),
+                record[ACTIVE] != 0
+        );
+    }
+
+    private static User toUser(byte[] record) {
+        return new User(
+                string(record, 0),
+                string(record, 1),
+                string(record, 2),
+                string(record, 3),
+                RoleSets.fromMask(record[ROLE_MASK] & 0xFF),
+                record[ACTIVE] != 0
+        );
+    }
+
+    private static int fieldLength(byte[] record, int field) {
+        return ((record[LENGTHS + 2 * field] & 0xFF) << 8) | (record[LENGTHS + 2 * field + 1] & 0xFF);
+    }
+
+    private static int fieldOffset(byte[] record, int field) {
+        int offset = HEADER;
+        for (int i = 0; i < field; i++) {
+            offset += fieldLength(record, i);
+        }
+        return offset;
+    }
+
+    private static String string(byte[] record, int field) {
+        return new String(record, fieldOffset(record, field), fieldLength(record, field), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares ASCII values byte by char without decoding; anything else falls back to decoding.
+     */
+    private static boolean fieldEquals(byte[] record, int field, String value) {
+        int offset = fieldOffset(record, field);
+        int length = fieldLength(record, field);
+        if (length != value.length()) {
+            return length > value.length() && string(record, field).equals(value);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return string(record, field).equals(value);
+            }
+            if (record[offset + i] != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * FNV-1a over the UTF-16 chars followed by a 64-bit finalizer, so lookups hash the String they
+     * are given without encoding it; 0 marks an empty slot, so it is remapped.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * Index tables sized to twice the record capacity (load factor at most 0.5, tombstones included).
+     * Replaced wholesale on growth or rebuild; readers holding the previous instance still see a
+     * consistent store.
+     */
+    private static final class Tables {
+
+        final AtomicLongArray emailKeys;
+        final AtomicIntegerArray emailRefs;
+        final AtomicLongArray idKeys;
+        final AtomicIntegerArray idRefs;
+        final AtomicReferenceArray<byte[]> records;
+        final int mask;
+        int size;
+        int tombstones;
+
+        Tables(int capacity) {
+            int slots = capacity * 2;
+            this.emailKeys = new AtomicLongArray(slots);
+            this.emailRefs = new AtomicIntegerArray(slots);
+            this.idKeys = new AtomicLongArray(slots);
+            this.idRefs = new AtomicIntegerArray(slots);
+            this.records = new AtomicReferenceArray<>(capacity);
+            this.mask = slots - 1;
+        }
+
+        /**
+         * @return the record index whose {@code field} equals {@code value}, or -1
+         */
+        int find(AtomicLongArray keys, AtomicIntegerArray refs, String value, int field) {
+            long key = hash(value);
+            for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+                long candidate = keys.get(slot);
+                if (candidate == 0) {
+                    return -1;
+                }
+                if (candidate == key) {
+                    int index = refs.get(slot);
+                    if (index != TOMBSTONE && fieldEquals(records.get(index), field, value)) {
+                        return index;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Points {@code key} at {@code index}, reusing the slot of a record with the same key.
+         * The ref is written before the key, so a reader that sees the key sees its ref.
+         */
+        void index(AtomicLongArray keys, AtomicIntegerArray refs, long key, int index) {
+            for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+                long candidate = keys.get(slot);
+                if (candidate == 0) {
+                    refs.set(slot, index);
+                    keys.set(slot, key);
+                    return;
+                }
+                if (candidate == key && refs.get(slot) == index) {
+                    return;
+                }
+                if (candidate == key && refs.get(slot) == TOMBSTONE) {
+                    refs.set(slot, index);
+                    tombstones--;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Marks the slot pointing {@code key} at {@code index} as deleted. The key stays so that
+         * probe sequences running through the slot are not cut short.
+         */
+        void unindex(AtomicLongArray keys, AtomicIntegerArray refs, long key, int index) {
+            for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+                long candidate = keys.get(slot);
+                if (candidate == 0) {
+                    return;
+                }
+                if (candidate == key && refs.get(slot) == index) {
+                    refs.set(slot, TOMBSTONE);
+                    tombstones++;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import com.cabos.komfortchain.login.domain.model.RefreshTokenGrant;
+import com.cabos.komfortchain.login.domain.port.RefreshTokenPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code in-memory} counterpart of {@code RefreshTokenAdapter}. Expired grants are swept whenever
+ * the map has doubled since the last sweep. A second map from user id to token hashes plays the
+ * role of the {@code userId} index, so {@link #revokeAll} touches only that user's grants.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenPort {
+
+    private static final int MIN_SWEEP_SIZE = 1024;
+
+    private final Map<String, RefreshTokenGrant> grants = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> hashesByUser = new ConcurrentHashMap<>();
+    private volatile int sweepAtSize = MIN_SWEEP_SIZE;
+
+    @Override
+    public void store(String tokenHash, RefreshTokenGrant grant) {
+        hashesByUser.compute(grant.userId(), (userId, hashes) -> {
+            Set<String> updated = hashes == null ? ConcurrentHashMap.newKeySet() : hashes;
+            updated.add(tokenHash);
+            return updated;
+        });
+        grants.put(tokenHash, grant);
+        if (grants.size() >= sweepAtSize) {
+            sweep();
+        }
+    }
+
+    @Override
+    public Optional<RefreshTokenGrant> consume(String tokenHash) {
+        RefreshTokenGrant grant = grants.remove(tokenHash);
+        if (grant != null) {
+            unindex(grant.userId(), tokenHash);
+        }
+        return Optional.ofNullable(grant);
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        Set<String> hashes = hashesByUser.remove(userId);
+        if (hashes != null) {
+            hashes.forEach(grants::remove);
+        }
+    }
+
+    private void unindex(String userId, String tokenHash) {
+        hashesByUser.computeIfPresent(userId, (id, hashes) -> {
+            hashes.remove(tokenHash);
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+
+    private synchronized void sweep() {
+        if (grants.size() < sweepAtSize) {
+            return;
+        }
+        long now = Instant.now().getEpochSecond();
+        grants.forEach((tokenHash, grant) -> {
+            if (grant.expiresAtEpochSeconds() <= now && grants.remove(tokenHash, grant)) {
+                unindex(grant.userId(), tokenHash);
+            }
+        });
+        sweepAtSize = Math.max(MIN_SWEEP_SIZE, grants.size() * 2);
+    }
+}
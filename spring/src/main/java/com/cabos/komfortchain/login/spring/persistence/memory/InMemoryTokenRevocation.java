@@ -0,0 +1,42 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import com.cabos.komfortchain.login.domain.port.TokenRevocationPort;
+import com.cabos.komfortchain.login.domain.token.RevocationList;
+import com.cabos.komfortchain.login.shared.configuration.RevocationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * {@code in-memory} counterpart of {@code TokenRevocationAdapter}: the same {@link RevocationList},
+ * without persistence or cross-instance sync.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryTokenRevocation implements TokenRevocationPort {
+
+    private final RevocationList revocationList;
+    private final int purgeThreshold;
+
+    public InMemoryTokenRevocation(RevocationProperties revocationProperties) {
+        this.revocationList = new RevocationList(
+                revocationProperties.getExpectedRevocations(),
+                revocationProperties.getFalsePositiveRate()
+        );
+        this.purgeThreshold = revocationProperties.getExpectedRevocations();
+    }
+
+    @Override
+    public void revoke(long tokenId, long expiresAtEpochSeconds) {
+        revocationList.add(tokenId, expiresAtEpochSeconds);
+        if (revocationList.size() >= purgeThreshold) {
+            revocationList.purgeExpired(Instant.now().getEpochSecond());
+        }
+    }
+
+    @Override
+    public boolean isRevoked(long tokenId) {
+        return revocationList.contains(tokenId);
+    }
+}
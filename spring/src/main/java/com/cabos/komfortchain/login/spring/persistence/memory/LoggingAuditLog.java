@@ -0,0 +1,50 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+import com.cabos.komfortchain.login.shared.audit.AuditEventBuffer;
+import com.cabos.komfortchain.login.shared.configuration.AuditProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code in-memory} counterpart of {@code AuditEventAdapter}: the same buffer and metrics, with the
+ * batches written to the {@code audit} logger at {@code DEBUG} instead of Mongo. Off unless that
+ * logger is enabled ({@code logging.level.audit=DEBUG}).
+ */
+@Component
+@Profile("in-memory")
+public class LoggingAuditLog implements AuditEventPort, AutoCloseable {
+
+    private static final Logger audit = LoggerFactory.getLogger("audit");
+
+    private final AuditEventBuffer buffer;
+
+    public LoggingAuditLog(AuditProperties auditProperties, MeterRegistry meterRegistry) {
+        this.buffer = new AuditEventBuffer("audit-writer", LoggingAuditLog::log, auditProperties, meterRegistry);
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        if (audit.isDebugEnabled()) {
+            buffer.record(event);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        buffer.close();
+    }
+
+    private static void log(List<AuditEvent> events) {
+        for (AuditEvent event : events) {
+            audit.debug("{} success={} userId={} email={} reason={} at={}", event.type(), event.success(),
+                    event.userId(), event.email(), event.reason(), event.timestampEpochMillis());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Local-file durability for {@link CompactUserRepository}: a snapshot of every record plus an
+ * append log of the records written since. Both hold entries of {@code length | CRC32 | record};
+ * each log entry is an upsert, so replaying it over the snapshot restores the latest state.
+ * <p>
+ * A torn or corrupt log tail left by a crash is truncated on load; an append that fails part-way is
+ * truncated back to the previous entry right away, or before the next append if that fails too, so
+ * later entries are never written behind a torn one. Compaction writes a new snapshot
+ * next to the old one, renames it into place and only then empties the log, so a crash at any point
+ * leaves either the old or the new snapshot plus a log that is safe to replay. Not thread-safe: the
+ * repository calls it under its write lock.
+ */
+final class UserStoreFiles implements AutoCloseable {
+
+    private static final String SNAPSHOT = "users.snapshot";
+    private static final String LOG = "users.log";
+    private static final int ENTRY_HEADER = 8;
+    private static final int MAX_RECORD = 1 << 20;
+
+    private final Path directory;
+    private final boolean syncWrites;
+    private final long compactLogBytes;
+    private final CRC32 crc = new CRC32();
+    private FileChannel log;
+    private long end;
+
+    UserStoreFiles(Path directory, boolean syncWrites, long compactLogBytes) {
+        this.directory = directory;
+        this.syncWrites = syncWrites;
+        this.compactLogBytes = compactLogBytes;
+    }
+
+    /**
+     * Feeds the snapshot and then the log to {@code sink}, oldest first, and opens the log for appends.
+     */
+    void load(Consumer<byte[]> sink) throws IOException {
+        Files.createDirectories(directory);
+        Path snapshot = directory.resolve(SNAPSHOT);
+        if (Files.exists(snapshot) && read(snapshot, sink) != Files.size(snapshot)) {
+            throw new IOException("Corrupt user snapshot " + snapshot);
+        }
+        Path logPath = directory.resolve(LOG);
+        long valid = Files.exists(logPath) ? read(logPath, sink) : 0L;
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        log.truncate(valid);
+        log.position(valid);
+        end = valid;
+    }
+
+    void append(byte[] record) throws IOException {
+        if (log.position() != end) {
+            rewind();
+        }
+        try {
+            write(log, record);
+            if (syncWrites) {
+                log.force(false);
+            }
+        } catch (IOException e) {
+            try {
+                rewind();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        end = log.position();
+    }
+
+    boolean needsCompaction() {
+        return end >= compactLogBytes;
+    }
+
+    void compact(Iterable<byte[]> records) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (byte[] record : records) {
+                write(out, record);
+            }
+            out.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.truncate(0);
+        end = 0;
+        log.position(0);
+        log.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (log != null) {
+            log.force(true);
+            log.close();
+        }
+    }
+
+    /**
+     * Drops whatever a failed append left after the last complete entry.
+     */
+    private void rewind() throws IOException {
+        log.truncate(end);
+        log.position(end);
+    }
+
+    private void write(FileChannel channel, byte[] record) throws IOException {
+        crc.reset();
+        crc.update(record);
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER + record.length)
+                .putInt(record.length)
+                .putInt((int) crc.getValue())
+                .put(record)
+                .flip();
+        while (entry.hasRemaining()) {
+            channel.write(entry);
+        }
+    }
+
+    /**
+     * @return the length of the valid prefix of the file
+     */
+    private long read(Path file, Consumer<byte[]> sink) throws IOException {
+        long valid = 0;
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16))) {
+            while (true) {
+                int length;
+                int checksum;
+                byte[] record;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length < 0 || length > MAX_RECORD) {
+                        return valid;
+                    }
+                    record = in.readNBytes(length);
+                } catch (EOFException e) {
+                    return valid;
+                }
+                crc.reset();
+                crc.update(record);
+                if (record.length != length || (int) crc.getValue() != checksum) {
+                    return valid;
+                }
+                sink.accept(record);
+                valid += ENTRY_HEADER + length;
+            }
+        }
+    }
+}
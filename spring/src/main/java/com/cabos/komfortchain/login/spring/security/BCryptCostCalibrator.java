@@ -0,0 +1,46 @@
+package com.cabos.komfortchain.login.spring.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt cost whose hash time on this machine stays within a latency budget.
+ * Each cost step doubles the work, so the search stops as soon as the next step would exceed it.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration budget, int minStrength, int maxStrength) {
+        long budgetNanos = budget.toNanos();
+        int strength = minStrength;
+        long elapsed = measure(strength);
+
+        while (strength < maxStrength && elapsed * 2 <= budgetNanos) {
+            strength++;
+            elapsed = measure(strength);
+        }
+        if (elapsed > budgetNanos && strength > minStrength) {
+            strength--;
+        }
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
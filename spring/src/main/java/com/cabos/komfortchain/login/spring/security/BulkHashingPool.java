@@ -0,0 +1,46 @@
+package com.cabos.komfortchain.login.spring.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashing pool for bulk imports, kept apart from the login hashing pool so an import cannot push
+ * interactive logins into 503s. A full queue makes the submitting thread hash as well, which
+ * slows the reader down instead of failing the import.
+ * <p>
+ * Deliberately not an {@link Executor} itself: an executor bean would replace Spring Boot's
+ * application task executor, which serves the streaming responses.
+ */
+public class BulkHashingPool implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+
+    public BulkHashingPool(int poolSize, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
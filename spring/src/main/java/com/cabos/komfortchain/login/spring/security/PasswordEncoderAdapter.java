@@ -0,0 +1,31 @@
+package com.cabos.komfortchain.login.spring.security;
+
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Exposes a Spring Security {@link PasswordEncoder} as the domain's {@link PasswordEncoderPort}.
+ */
+public class PasswordEncoderAdapter implements PasswordEncoderPort {
+
+    private final PasswordEncoder passwordEncoder;
+
+    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return passwordEncoder.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,44 @@
+package com.cabos.komfortchain.login.spring.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder that asks for an upgrade whenever a stored hash was produced with a cost
+ * below the target one. Hashes only ever move up: with a calibrated cost, instances on different
+ * hardware pick different targets, and rehashing down as well would bounce users between them.
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public TargetCostBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost < strength;
+    }
+
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null
+                || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char units = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+}
@@ -0,0 +1,27 @@
+package com.cabos.komfortchain.login.spring.warmup;
+
+import com.cabos.komfortchain.login.domain.model.AuditEvent;
+import com.cabos.komfortchain.login.domain.port.AuditEventPort;
+
+/**
+ * Keeps the {@link WarmupRunner}'s own HTTP logins out of the audit trail. An event is dropped only
+ * while those requests are being sent and only for the runner's reserved address domain, so client
+ * traffic is never filtered.
+ */
+public class WarmupAuditFilter implements AuditEventPort {
+
+    private final AuditEventPort delegate;
+    private final WarmupRunner warmupRunner;
+
+    public WarmupAuditFilter(AuditEventPort delegate, WarmupRunner warmupRunner) {
+        this.delegate = delegate;
+        this.warmupRunner = warmupRunner;
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        if (!warmupRunner.isWarmupTraffic(event.email())) {
+            delegate.record(event);
+        }
+    }
+}
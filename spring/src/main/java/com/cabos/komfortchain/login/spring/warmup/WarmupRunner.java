@@ -0,0 +1,218 @@
+package com.cabos.komfortchain.login.spring.warmup;
+
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.TokenClaims;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.port.TokenProviderPort;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import com.cabos.komfortchain.login.spring.configuration.WarmupProperties;
+import com.cabos.komfortchain.login.spring.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs synthetic traffic through the real ports before the service reports ready: BCrypt through the
+ * hashing pool, token issue and parse, repository lookups of addresses that cannot exist (which also
+ * fills the Mongo connection pool), the entity mapper, and finally HTTP requests to this instance's
+ * own login and refresh endpoints so the filter chain, controller and JSON binding are loaded.
+ * <p>
+ * Boot moves readiness to {@code ACCEPTING_TRAFFIC} only after every runner has returned, so
+ * {@code /actuator/health/readiness} stays {@code OUT_OF_SERVICE} meanwhile. Nothing is written to
+ * the stores, and the audit events of the HTTP logins are dropped by {@link WarmupAuditFilter}.
+ * A failing phase is logged and skipped, and {@code warmup.max-duration} bounds the
+ * whole warm-up: it only ever delays readiness, never prevents it.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String PASSWORD = "warm-up-password";
+    private static final String EMAIL_DOMAIN = "@warm-up.invalid";
+
+    private final UserRepositoryPort userRepository;
+    private final PasswordEncoderPort passwordEncoder;
+    private final TokenProviderPort tokenProvider;
+    private final UserMapper userMapper;
+    private final ApplicationContext applicationContext;
+    private final WarmupProperties properties;
+    private volatile boolean sendingRequests;
+
+    public WarmupRunner(UserRepositoryPort userRepository,
+                        PasswordEncoderPort passwordEncoder,
+                        TokenProviderPort tokenProvider,
+                        UserMapper userMapper,
+                        ApplicationContext applicationContext,
+                        WarmupProperties properties) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenProvider = tokenProvider;
+        this.userMapper = userMapper;
+        this.applicationContext = applicationContext;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+
+        String hash = encode();
+        if (hash != null) {
+            phase("hash", properties.getHashIterations(), deadline, i -> {
+                passwordEncoder.matches(PASSWORD, hash);
+                passwordEncoder.upgradeEncoding(hash);
+            });
+        }
+
+        phase("token", properties.getIterations(), deadline, i -> {
+            String token = tokenProvider.issueToken(UUID.randomUUID().toString(), Set.of(Role.USER)).token();
+            TokenClaims claims = tokenProvider.parseToken(token);
+            if (!claims.valid() || !tokenProvider.validateToken(token)) {
+                throw new IllegalStateException("Token issued during warm-up does not validate");
+            }
+        });
+
+        phase("repository", properties.getIterations(), deadline, i -> {
+            String email = email(i);
+            userRepository.findCredentialsByEmail(email);
+            userRepository.existsByEmail(email);
+            userRepository.findByEmail(email);
+            User user = new User(UUID.randomUUID().toString(), "Warm-up", email, PASSWORD, Set.of(Role.USER), true);
+            userMapper.toResponseDTO(userMapper.toDomain(userMapper.toEntity(user)));
+            userMapper.toCredentials(userMapper.toEntity(user));
+        });
+
+        if (applicationContext instanceof WebServerApplicationContext webContext
+                && webContext.getWebServer().getPort() > 0) {
+            sendingRequests = true;
+            try {
+                http(URI.create("http://localhost:" + webContext.getWebServer().getPort()), deadline);
+            } finally {
+                sendingRequests = false;
+            }
+        }
+
+        log.info("Warm-up finished in {}ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Whether an event for {@code email} comes from this runner's HTTP phase: only while it runs, and
+     * only for the reserved {@code .invalid} domain that no registered account can have.
+     */
+    public boolean isWarmupTraffic(String email) {
+        return sendingRequests && email != null && email.endsWith(EMAIL_DOMAIN);
+    }
+
+    private String encode() {
+        try {
+            return passwordEncoder.encode(PASSWORD);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up phase 'hash' skipped", e);
+            return null;
+        }
+    }
+
+    /**
+     * Logins for unknown addresses and refreshes with a bogus token: both end in {@code 401} without
+     * touching a password hash or a stored token. The logins carry a valid bearer token so the
+     * authentication filter and the revocation check run as well.
+     */
+    private void http(URI baseUri, long deadline) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        String bearer = "Bearer " + tokenProvider.generateToken(UUID.randomUUID().toString(), Set.of(Role.USER));
+
+        phase("http", properties.getHttpRequests(), deadline, i -> {
+            send(client, HttpRequest.newBuilder(baseUri.resolve("/api/v1/login"))
+                    .header(HttpHeaders.AUTHORIZATION, bearer)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + email(i) + "\",\"password\":\"" + PASSWORD + "\"}")));
+            send(client, HttpRequest.newBuilder(baseUri.resolve("/api/v1/refresh"))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"warm-up-" + i + "\"}")));
+        });
+    }
+
+    private static void send(HttpClient client, HttpRequest.Builder request) {
+        try {
+            int status = client.send(request.header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(10))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status >= 500) {
+                throw new IllegalStateException("Warm-up request answered " + status);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs {@code iterations} calls spread over {@code warmup.concurrency} threads. The first failure
+     * or the deadline stops the phase.
+     */
+    private void phase(String name, int iterations, long deadline, IntConsumer call) {
+        if (iterations <= 0 || System.nanoTime() >= deadline) {
+            return;
+        }
+        long start = System.nanoTime();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        int threads = Math.max(1, Math.min(properties.getConcurrency(), iterations));
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < iterations; i++) {
+                int iteration = i;
+                executor.execute(() -> {
+                    if (failure.get() != null || System.nanoTime() >= deadline) {
+                        return;
+                    }
+                    try {
+                        call.accept(iteration);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+            }
+        }
+        if (failure.get() != null) {
+            log.warn("Warm-up phase '{}' stopped early", name, failure.get());
+        } else {
+            log.debug("Warm-up phase '{}' took {}ms", name, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+    }
+
+    private static String email(int i) {
+        return "warm-up-" + i + EMAIL_DOMAIN;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cabos.komfortchain.login.spring.metrics;
+
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.shared.configuration.JwtProperties;
+import com.cabos.komfortchain.login.shared.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MeteredTokenProviderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MeteredTokenProvider tokenProvider =
+            new MeteredTokenProvider(new JwtTokenProvider(new JwtProperties()), registry);
+
+    @Test
+    void registersEveryOutcomeUpFront() {
+        for (String outcome : OperationMetrics.OUTCOMES) {
+            assertNotNull(registry.find(MetricNames.PORT)
+                    .tag("operation", "parseToken").tag("outcome", outcome).timer(), outcome);
+        }
+    }
+
+    @Test
+    void countsRejectedTokensAsInvalidRatherThanSuccess() {
+        String token = tokenProvider.generateToken("user-1", Set.of(Role.USER));
+
+        assertTrue(tokenProvider.parseToken(token).valid());
+        assertFalse(tokenProvider.parseToken(token + "x").valid());
+        assertFalse(tokenProvider.parseToken("garbage").valid());
+        assertFalse(tokenProvider.validateToken("garbage"));
+
+        assertEquals(1, parseTokenTimer(OperationMetrics.SUCCESS).count());
+        assertEquals(2, parseTokenTimer(OperationMetrics.INVALID_TOKEN).count());
+        assertEquals(1, registry.get(MetricNames.PORT)
+                .tag("operation", "validateToken").tag("outcome", OperationMetrics.INVALID_TOKEN).timer().count());
+    }
+
+    @Test
+    void rejectsOperationsThatWereNotRegistered() {
+        OperationMetrics metrics = new OperationMetrics(registry, "test", "component", "test", "known");
+
+        assertThrows(IllegalArgumentException.class, () -> metrics.record("unknown", () -> null));
+    }
+
+    private Timer parseTokenTimer(String outcome) {
+        return registry.get(MetricNames.PORT).tag("operation", "parseToken").tag("outcome", outcome).timer();
+    }
+}
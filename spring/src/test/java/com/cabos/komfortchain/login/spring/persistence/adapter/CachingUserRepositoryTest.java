@@ -0,0 +1,175 @@
+package com.cabos.komfortchain.login.spring.persistence.adapter;
+
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.domain.port.UserRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingUserRepositoryTest {
+
+    private static final String EMAIL = "ana@example.com";
+
+    private final GatedUserRepository delegate = new GatedUserRepository();
+    private final CachingUserRepository repository =
+            new CachingUserRepository(delegate, 1_000, Duration.ofMinutes(5), 1_000, Duration.ofMinutes(1));
+
+    @Test
+    void cachesAMissUntilTheEmailIsRegistered() {
+        assertFalse(repository.findByEmail(EMAIL).isPresent());
+        assertFalse(repository.findByEmail(EMAIL).isPresent());
+        assertEquals(1, delegate.reads.get());
+
+        repository.insert(user("1", "hash-1"));
+
+        assertTrue(repository.findByEmail(EMAIL).isPresent());
+    }
+
+    @Test
+    void missReadBeforeAnInsertIsNotCachedAfterIt() throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            delegate.pauseNextRead();
+            Future<Optional<User>> staleRead = executor.submit(() -> repository.findByEmail(EMAIL));
+            delegate.awaitPausedRead();
+
+            repository.insert(user("1", "hash-1"));
+            delegate.resume();
+
+            assertFalse(staleRead.get(5, TimeUnit.SECONDS).isPresent());
+        }
+
+        assertTrue(repository.findByEmail(EMAIL).isPresent());
+        assertTrue(repository.findCredentialsByEmail(EMAIL).isPresent());
+        assertTrue(repository.existsByEmail(EMAIL));
+    }
+
+    @Test
+    void credentialsReadBeforeARehashAreNotCachedAfterIt() throws Exception {
+        delegate.insert(user("1", "hash-1"));
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            delegate.pauseNextRead();
+            Future<Optional<UserCredentials>> staleRead =
+                    executor.submit(() -> repository.findCredentialsByEmail(EMAIL));
+            delegate.awaitPausedRead();
+
+            repository.updatePasswordHash("1", "hash-2");
+            delegate.resume();
+
+            assertEquals("hash-1", staleRead.get(5, TimeUnit.SECONDS).orElseThrow().passwordHash());
+        }
+
+        assertEquals("hash-2", repository.findCredentialsByEmail(EMAIL).orElseThrow().passwordHash());
+    }
+
+    private static User user(String id, String passwordHash) {
+        return new User(id, "Ana", EMAIL, passwordHash, Set.of(Role.USER), true);
+    }
+
+    /**
+     * Map-backed store whose next email lookup, once armed, reads its result and then waits, so a
+     * write can land between that read and the caching of its result.
+     */
+    private static final class GatedUserRepository implements UserRepositoryPort {
+
+        final Map<String, User> byEmail = new ConcurrentHashMap<>();
+        final AtomicInteger reads = new AtomicInteger();
+        private final CountDownLatch paused = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicBoolean armed = new AtomicBoolean();
+
+        void pauseNextRead() {
+            armed.set(true);
+        }
+
+        void awaitPausedRead() throws InterruptedException {
+            assertTrue(paused.await(5, TimeUnit.SECONDS), "the read did not reach the store");
+        }
+
+        void resume() {
+            gate.countDown();
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return pauseIfArmed(Optional.ofNullable(byEmail.get(email)));
+        }
+
+        @Override
+        public Optional<UserCredentials> findCredentialsByEmail(String email) {
+            return pauseIfArmed(Optional.ofNullable(byEmail.get(email))
+                    .map(user -> new UserCredentials(user.id(), user.passwordHash(), user.roles(), user.active())));
+        }
+
+        @Override
+        public Optional<UserCredentials> findCredentialsById(String id) {
+            return byEmail.values().stream()
+                    .filter(user -> user.id().equals(id))
+                    .findFirst()
+                    .map(user -> new UserCredentials(user.id(), user.passwordHash(), user.roles(), user.active()));
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            reads.incrementAndGet();
+            return byEmail.containsKey(email);
+        }
+
+        @Override
+        public User save(User user) {
+            byEmail.put(user.email(), user);
+            return user;
+        }
+
+        @Override
+        public User insert(User user) {
+            byEmail.put(user.email(), user);
+            return user;
+        }
+
+        @Override
+        public List<User> insertAll(List<User> users) {
+            users.forEach(this::insert);
+            return users;
+        }
+
+        @Override
+        public void updatePasswordHash(String id, String passwordHash) {
+            byEmail.replaceAll((email, user) -> user.id().equals(id)
+                    ? new User(user.id(), user.name(), user.email(), passwordHash, user.roles(), user.active())
+                    : user);
+        }
+
+        private <T> T pauseIfArmed(T result) {
+            reads.incrementAndGet();
+            if (armed.compareAndSet(true, false)) {
+                paused.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import com.cabos.komfortchain.login.domain.exception.UserAlreadyExistsException;
+import com.cabos.komfortchain.login.domain.model.Role;
+import com.cabos.komfortchain.login.domain.model.User;
+import com.cabos.komfortchain.login.domain.model.UserCredentials;
+import com.cabos.komfortchain.login.spring.configuration.UserStoreProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactUserRepositoryTest {
+
+    private final CompactUserRepository repository = new CompactUserRepository(properties(null));
+
+    @Test
+    void findsInsertedUserByEmailAndId() {
+        User user = user("1", "ana@example.com");
+
+        repository.insert(user);
+
+        assertEquals(Optional.of(user), repository.findByEmail("ana@example.com"));
+        assertEquals(Optional.of(credentials(user)), repository.findCredentialsByEmail("ana@example.com"));
+        assertEquals(Optional.of(credentials(user)), repository.findCredentialsById("1"));
+        assertTrue(repository.existsByEmail("ana@example.com"));
+        assertFalse(repository.existsByEmail("bia@example.com"));
+    }
+
+    @Test
+    void keepsIndexesConsistentWhileGrowing() {
+        for (int i = 0; i < 5_000; i++) {
+            repository.insert(user("id-" + i, "user" + i + "@example.com"));
+        }
+
+        assertEquals(5_000, repository.size());
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals("id-" + i, repository.findByEmail("user" + i + "@example.com").orElseThrow().id());
+            assertEquals("id-" + i, repository.findCredentialsById("id-" + i).orElseThrow().id());
+        }
+    }
+
+    @Test
+    void rejectsTakenEmailOrIdOnInsert() {
+        repository.insert(user("1", "ana@example.com"));
+
+        assertThrows(UserAlreadyExistsException.class, () -> repository.insert(user("2", "ana@example.com")));
+        assertThrows(UserAlreadyExistsException.class, () -> repository.insert(user("1", "bia@example.com")));
+        assertFalse(repository.findCredentialsById("2").isPresent());
+        assertFalse(repository.existsByEmail("bia@example.com"));
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void insertAllSkipsEmailsTakenEarlierInTheBatch() {
+        repository.insert(user("0", "taken@example.com"));
+
+        List<User> inserted = repository.insertAll(List.of(
+                user("1", "ana@example.com"),
+                user("2", "taken@example.com"),
+                user("3", "ana@example.com"),
+                user("4", "bia@example.com")));
+
+        assertEquals(List.of("1", "4"), inserted.stream().map(User::id).toList());
+        assertEquals("1", repository.findByEmail("ana@example.com").orElseThrow().id());
+        assertEquals(3, repository.size());
+    }
+
+    @Test
+    void saveWithNewEmailMovesTheEmailIndex() {
+        repository.insert(user("1", "ana@example.com"));
+        repository.insert(user("2", "bia@example.com"));
+
+        User renamed = user("1", "ana.silva@example.com");
+        repository.save(renamed);
+
+        assertFalse(repository.existsByEmail("ana@example.com"));
+        assertEquals(Optional.of(renamed), repository.findByEmail("ana.silva@example.com"));
+        assertEquals(Optional.of(credentials(renamed)), repository.findCredentialsById("1"));
+        assertEquals("2", repository.findByEmail("bia@example.com").orElseThrow().id());
+        assertEquals(2, repository.size());
+    }
+
+    @Test
+    void repeatedEmailChangesStayConsistentAcrossTombstoneRebuilds() {
+        for (int i = 0; i < 20; i++) {
+            repository.insert(user("id-" + i, "user" + i + "@example.com"));
+        }
+
+        for (int round = 1; round <= 200; round++) {
+            for (int i = 0; i < 20; i++) {
+                repository.save(user("id-" + i, "user" + i + "-" + round + "@example.com"));
+            }
+        }
+
+        assertEquals(20, repository.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("id-" + i, repository.findByEmail("user" + i + "-200@example.com").orElseThrow().id());
+            assertFalse(repository.existsByEmail("user" + i + "-199@example.com"));
+            assertFalse(repository.existsByEmail("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void saveRejectsAnotherUsersEmailAndKeepsBothRecords() {
+        repository.insert(user("1", "ana@example.com"));
+        repository.insert(user("2", "bia@example.com"));
+
+        assertThrows(UserAlreadyExistsException.class, () -> repository.save(user("2", "ana@example.com")));
+
+        assertEquals("1", repository.findByEmail("ana@example.com").orElseThrow().id());
+        assertEquals("2", repository.findByEmail("bia@example.com").orElseThrow().id());
+    }
+
+    @Test
+    void updatePasswordHashKeepsTheUserFindable() {
+        repository.insert(user("1", "ana@example.com"));
+
+        repository.updatePasswordHash("1", "$2a$12$rehashed");
+        repository.updatePasswordHash("missing", "$2a$12$ignored");
+
+        assertEquals("$2a$12$rehashed", repository.findCredentialsByEmail("ana@example.com").orElseThrow().passwordHash());
+        assertEquals("$2a$12$rehashed", repository.findCredentialsById("1").orElseThrow().passwordHash());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void reloadsTheSameUsersFromDisk(@TempDir Path directory) throws Exception {
+        try (CompactUserRepository stored = new CompactUserRepository(properties(directory))) {
+            stored.insert(user("1", "ana@example.com"));
+            stored.insert(user("2", "bia@example.com"));
+            stored.save(user("1", "ana.silva@example.com"));
+            stored.updatePasswordHash("2", "$2a$12$rehashed");
+        }
+
+        try (CompactUserRepository reloaded = new CompactUserRepository(properties(directory))) {
+            assertEquals(2, reloaded.size());
+            assertFalse(reloaded.existsByEmail("ana@example.com"));
+            assertEquals("1", reloaded.findByEmail("ana.silva@example.com").orElseThrow().id());
+            assertEquals("$2a$12$rehashed", reloaded.findCredentialsById("2").orElseThrow().passwordHash());
+        }
+    }
+
+    @Test
+    void keepsWritesWhenCompactionFailsAndRetriesOnTheNextWrite(@TempDir Path directory) throws Exception {
+        UserStoreProperties properties = properties(directory);
+        properties.setCompactLogSize(DataSize.ofBytes(1));
+        Path snapshot = directory.resolve("users.snapshot");
+        Path log = directory.resolve("users.log");
+
+        try (CompactUserRepository stored = new CompactUserRepository(properties)) {
+            // A non-empty directory in the snapshot's place makes the rename fail.
+            Files.delete(snapshot);
+            Files.createDirectories(snapshot.resolve("blocked"));
+
+            stored.insert(user("1", "ana@example.com"));
+
+            assertTrue(stored.existsByEmail("ana@example.com"));
+            assertTrue(Files.size(log) > 0);
+
+            Files.delete(snapshot.resolve("blocked"));
+            Files.delete(snapshot);
+            stored.insert(user("2", "bia@example.com"));
+
+            assertEquals(0, Files.size(log));
+        }
+
+        try (CompactUserRepository reloaded = new CompactUserRepository(properties)) {
+            assertEquals(2, reloaded.size());
+            assertTrue(reloaded.existsByEmail("ana@example.com"));
+            assertTrue(reloaded.existsByEmail("bia@example.com"));
+        }
+    }
+
+    private static User user(String id, String email) {
+        return new User(id, "User " + id, email, "$2a$12$hash-" + id, Set.of(Role.USER), true);
+    }
+
+    private static UserCredentials credentials(User user) {
+        return new UserCredentials(user.id(), user.passwordHash(), user.roles(), user.active());
+    }
+
+    private static UserStoreProperties properties(Path directory) {
+        UserStoreProperties properties = new UserStoreProperties();
+        properties.setInitialCapacity(16);
+        properties.setPath(directory == null ? null : directory.toString());
+        return properties;
+    }
+}
@@ -0,0 +1,106 @@
+package com.cabos.komfortchain.login.spring.persistence.memory;
+
+import com.cabos.komfortchain.login.domain.model.RefreshTokenGrant;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    @Test
+    void grantCanBeConsumedOnlyOnce() {
+        RefreshTokenGrant grant = grant("user-1", 60);
+        store.store("hash-1", grant);
+
+        assertEquals(Optional.of(grant), store.consume("hash-1"));
+        assertFalse(store.consume("hash-1").isPresent());
+    }
+
+    @Test
+    void concurrentConsumersGetTheGrantOnlyOnce() throws Exception {
+        store.store("hash-1", grant("user-1", 60));
+
+        int winners = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Callable<Boolean>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(() -> store.consume("hash-1").isPresent());
+            }
+            for (Future<Boolean> call : executor.invokeAll(calls)) {
+                winners += call.get() ? 1 : 0;
+            }
+        }
+
+        assertEquals(1, winners);
+    }
+
+    @Test
+    void revokeAllRemovesOnlyThatUsersGrants() {
+        store.store("hash-1", grant("user-1", 60));
+        store.store("hash-2", grant("user-1", 60));
+        RefreshTokenGrant other = grant("user-2", 60);
+        store.store("hash-3", other);
+
+        store.revokeAll("user-1");
+
+        assertFalse(store.consume("hash-1").isPresent());
+        assertFalse(store.consume("hash-2").isPresent());
+        assertEquals(Optional.of(other), store.consume("hash-3"));
+    }
+
+    @Test
+    void revokeAllDoesNotReachGrantsStoredAfterIt() {
+        store.store("hash-1", grant("user-1", 60));
+        store.revokeAll("user-1");
+
+        RefreshTokenGrant afterLogin = grant("user-1", 60);
+        store.store("hash-2", afterLogin);
+
+        assertEquals(Optional.of(afterLogin), store.consume("hash-2"));
+    }
+
+    @Test
+    void rotatedGrantIsRevokedWithTheUser() {
+        store.store("hash-1", grant("user-1", 60));
+        store.consume("hash-1");
+        RefreshTokenGrant rotated = grant("user-1", 60);
+        store.store("hash-2", rotated);
+
+        store.revokeAll("user-1");
+
+        assertFalse(store.consume("hash-2").isPresent());
+    }
+
+    @Test
+    void sweepsExpiredGrantsOnceTheMapHasGrown() {
+        RefreshTokenGrant live = grant("user-live", 60);
+        store.store("live", live);
+        for (int i = 0; i < 2_048; i++) {
+            store.store("expired-" + i, grant("user-" + i, -60));
+        }
+
+        int remaining = 0;
+        for (int i = 0; i < 2_048; i++) {
+            remaining += store.consume("expired-" + i).isPresent() ? 1 : 0;
+        }
+        assertTrue(remaining < 2_048, "no expired grant was swept");
+        assertEquals(Optional.of(live), store.consume("live"));
+    }
+
+    private static RefreshTokenGrant grant(String userId, long ttlSeconds) {
+        return new RefreshTokenGrant(userId, Instant.now().getEpochSecond() + ttlSeconds);
+    }
+}
@@ -0,0 +1,138 @@
+package com.cabos.komfortchain.login.spring.security;
+
+import com.cabos.komfortchain.login.domain.port.PasswordEncoderPort;
+import com.cabos.komfortchain.login.domain.usecase.AuthenticateUserUseCase;
+import com.cabos.komfortchain.login.spring.controller.LoginController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BoundedPasswordEncoderTest {
+
+    private static final long RETRY_AFTER_SECONDS = 7;
+
+    private final BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+    private final BoundedPasswordEncoder encoder =
+            new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(200), RETRY_AFTER_SECONDS);
+
+    @AfterEach
+    void releaseHashingThreads() {
+        delegate.gate.release(Integer.MAX_VALUE / 2);
+        encoder.close();
+    }
+
+    @Test
+    void rejectsRightAwayWhenTheQueueIsFull() throws Exception {
+        CompletableFuture<Boolean> running = encoder.matchesAsync("a", "hash:a");
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = encoder.matchesAsync("b", "hash:b");
+
+        long start = System.nanoTime();
+        PasswordHashingUnavailableException e =
+                assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("c", "hash:c"));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(200), "rejection waited for the timeout");
+        assertEquals(RETRY_AFTER_SECONDS, e.getRetryAfterSeconds());
+        ExecutionException async = assertThrows(ExecutionException.class, () -> encoder.encodeAsync("d").get());
+        assertInstanceOf(PasswordHashingUnavailableException.class, async.getCause());
+
+        delegate.gate.release(2);
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givesUpAfterTheWaitTimeoutAndSkipsTheAbandonedWork() throws Exception {
+        CompletableFuture<Boolean> running = encoder.matchesAsync("a", "hash:a");
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        PasswordHashingUnavailableException e =
+                assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("b"));
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200), "gave up before the timeout");
+        assertEquals(RETRY_AFTER_SECONDS, e.getRetryAfterSeconds());
+
+        delegate.gate.release(1);
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        encoder.close();
+        assertTrue(encoder.getExecutor().awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, delegate.calls.get());
+    }
+
+    @Test
+    void saturatedHashingAnswers503WithRetryAfter() throws Exception {
+        encoder.matchesAsync("a", "hash:a");
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        encoder.matchesAsync("b", "hash:b");
+
+        AuthenticateUserUseCase authenticate = (email, rawPassword) -> {
+            encoder.matches(rawPassword, "hash:" + rawPassword);
+            throw new AssertionError("hashing should have been rejected");
+        };
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new LoginController(null, authenticate, null, null)).build();
+
+        mockMvc.perform(post("/api/v1/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"ana@example.com\",\"password\":\"secret\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS)));
+    }
+
+    /**
+     * Holds every hash until the test releases a permit for it.
+     */
+    private static final class BlockingPasswordEncoder implements PasswordEncoderPort {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final Semaphore gate = new Semaphore(0);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String encode(String rawPassword) {
+            block();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            block();
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return false;
+        }
+
+        private void block() {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                gate.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}